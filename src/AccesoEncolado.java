@@ -0,0 +1,92 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Base de las políticas con cola explícita: al liberar, la zona pasa directo al elegido de
+// la cola (sin que nadie se cuele entre medio) y solo ese se despierta con la zona ya suya.
+// La espera pasa por el reloj, así con reloj virtual no se reintenta cada 50 ms.
+abstract class AccesoEncolado implements PoliticaAccesoParrilla {
+    static final class Espera {
+        final Rol rol;
+        final long llegada;
+        final Thread hilo;
+        boolean atendida;
+
+        Espera(Rol rol, long llegada, Thread hilo) {
+            this.rol = rol;
+            this.llegada = llegada;
+            this.hilo = hilo;
+        }
+    }
+
+    private final Reloj reloj;
+    private final ReentrantLock guardia = new ReentrantLock();
+    private final Condition turno = guardia.newCondition();
+    // Lo que sigue lo protege la guardia
+    private final List<Espera> cola = new ArrayList<>();
+    private long llegadas;
+    private volatile Thread dueno;
+
+    AccesoEncolado(Reloj reloj) {
+        this.reloj = reloj;
+    }
+
+    // Índice en la cola (en orden de llegada, nunca vacía) de quien se lleva la zona
+    abstract int elegir(List<Espera> cola);
+
+    @Override
+    public boolean adquirir(Rol rol, long timeoutMs) throws InterruptedException {
+        Thread actual = Thread.currentThread();
+        guardia.lock();
+        try {
+            if (dueno == null && cola.isEmpty()) {
+                dueno = actual;
+                return true;
+            }
+            Espera espera = new Espera(rol, llegadas++, actual);
+            cola.add(espera);
+            try {
+                if (!reloj.esperar(guardia, turno, () -> espera.atendida, timeoutMs)) {
+                    cola.remove(espera);
+                    return false;
+                }
+                return true;
+            } catch (InterruptedException e) {
+                // Si la zona llegó justo antes de la interrupción, pasa al siguiente
+                if (espera.atendida) {
+                    traspasar();
+                } else {
+                    cola.remove(espera);
+                }
+                throw e;
+            }
+        } finally {
+            guardia.unlock();
+        }
+    }
+
+    @Override
+    public void liberar() {
+        guardia.lock();
+        try {
+            traspasar();
+        } finally {
+            guardia.unlock();
+        }
+    }
+
+    @Override
+    public boolean isTomadaPorHiloActual() { return dueno == Thread.currentThread(); }
+
+    private void traspasar() {
+        if (cola.isEmpty()) {
+            dueno = null;
+            return;
+        }
+        Espera siguiente = cola.remove(elegir(cola));
+        siguiente.atendida = true;
+        dueno = siguiente.hilo;
+        reloj.avisar(turno);
+    }
+}
@@ -0,0 +1,22 @@
+import java.util.concurrent.locks.ReentrantLock;
+
+// El comportamiento de siempre: tryLock con timeout sobre un lock no justo
+final class AccesoLibre implements PoliticaAccesoParrilla {
+    private final Reloj reloj;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    AccesoLibre(Reloj reloj) {
+        this.reloj = reloj;
+    }
+
+    @Override
+    public boolean adquirir(Rol rol, long timeoutMs) throws InterruptedException {
+        return reloj.intentarBloquear(lock, timeoutMs);
+    }
+
+    @Override
+    public void liberar() { lock.unlock(); }
+
+    @Override
+    public boolean isTomadaPorHiloActual() { return lock.isHeldByCurrentThread(); }
+}
@@ -0,0 +1,10 @@
+import java.util.List;
+
+final class AccesoPorLlegada extends AccesoEncolado {
+    AccesoPorLlegada(Reloj reloj) {
+        super(reloj);
+    }
+
+    @Override
+    int elegir(List<Espera> cola) { return 0; }
+}
@@ -0,0 +1,75 @@
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Ticket lock: sacar número es un getAndIncrement y, si ya es el que se atiende, la zona se
+// toma sin pasar por la guardia. Los demás esperan su número; el que se cansa de esperar
+// deja el número anotado como abandonado y el siguiente en liberar lo saltea.
+final class AccesoPorNumero implements PoliticaAccesoParrilla {
+    private final Reloj reloj;
+    private final AtomicLong proximoNumero = new AtomicLong();
+    private volatile long atendiendo;
+    private final ReentrantLock guardia = new ReentrantLock();
+    private final Condition turno = guardia.newCondition();
+    private final Set<Long> abandonados = new HashSet<>();
+    private volatile Thread dueno;
+
+    AccesoPorNumero(Reloj reloj) {
+        this.reloj = reloj;
+    }
+
+    @Override
+    public boolean adquirir(Rol rol, long timeoutMs) throws InterruptedException {
+        long numero = proximoNumero.getAndIncrement();
+        if (atendiendo == numero) {
+            dueno = Thread.currentThread();
+            return true;
+        }
+        guardia.lock();
+        try {
+            boolean llego = false;
+            try {
+                llego = reloj.esperar(guardia, turno, () -> atendiendo == numero, timeoutMs);
+            } finally {
+                if (!llego) {
+                    if (atendiendo == numero) {
+                        avanzar();
+                    } else {
+                        abandonados.add(numero);
+                    }
+                }
+            }
+            if (llego) {
+                dueno = Thread.currentThread();
+            }
+            return llego;
+        } finally {
+            guardia.unlock();
+        }
+    }
+
+    @Override
+    public void liberar() {
+        dueno = null;
+        guardia.lock();
+        try {
+            avanzar();
+        } finally {
+            guardia.unlock();
+        }
+    }
+
+    @Override
+    public boolean isTomadaPorHiloActual() { return dueno == Thread.currentThread(); }
+
+    private void avanzar() {
+        long siguiente = atendiendo + 1;
+        while (abandonados.remove(siguiente)) {
+            siguiente++;
+        }
+        atendiendo = siguiente;
+        reloj.avisar(turno);
+    }
+}
@@ -0,0 +1,20 @@
+import java.util.List;
+
+// Prioridad estricta: con mucha demanda del asador los demás pueden no pasar nunca, y eso
+// es justamente lo que muestran los timeouts por rol
+final class AccesoPorPrioridad extends AccesoEncolado {
+    AccesoPorPrioridad(Reloj reloj) {
+        super(reloj);
+    }
+
+    @Override
+    int elegir(List<Espera> cola) {
+        int elegido = 0;
+        for (int i = 1; i < cola.size(); i++) {
+            if (cola.get(i).rol.getPrioridad() < cola.get(elegido).rol.getPrioridad()) {
+                elegido = i;
+            }
+        }
+        return elegido;
+    }
+}
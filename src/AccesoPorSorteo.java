@@ -0,0 +1,28 @@
+import java.util.List;
+import java.util.SplittableRandom;
+
+// Cada rol tiene chances proporcionales a sus boletos; nadie queda afuera para siempre
+final class AccesoPorSorteo extends AccesoEncolado {
+    private final SplittableRandom azar;
+
+    AccesoPorSorteo(Reloj reloj, SplittableRandom azar) {
+        super(reloj);
+        this.azar = azar;
+    }
+
+    @Override
+    int elegir(List<Espera> cola) {
+        int boletos = 0;
+        for (Espera espera : cola) {
+            boletos += espera.rol.getBoletos();
+        }
+        int ganador = azar.nextInt(boletos);
+        for (int i = 0; i < cola.size(); i++) {
+            ganador -= cola.get(i).rol.getBoletos();
+            if (ganador < 0) {
+                return i;
+            }
+        }
+        return cola.size() - 1;
+    }
+}
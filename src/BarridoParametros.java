@@ -0,0 +1,202 @@
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+// Barre una grilla de parámetros del asado (actores por rol, permisos de los semáforos,
+// esperas por las zonas...) corriendo cada punto con reloj virtual en paralelo, y escribe un
+// CSV con throughput, tasa de conflictos, esperas por rol y resultado de la carne por punto.
+// Cualquier opción del asado con varios valores es una dimensión: lista "1,2,4" (o de
+// palabras, "libre,fifo"), rango "5..30" o "5..30:5", o rango geométrico "1..64*2". Las de un solo valor quedan fijas para toda la grilla.
+// Todos los puntos usan las mismas semillas, así las diferencias vienen de los parámetros.
+// Uso: java BarridoParametros --tios=3..48*2 --politica=libre,fifo [--repeticiones=3]
+//                             [--paralelismo=<núcleos>] [--csv=<archivo>] [opciones del asado]
+public class BarridoParametros {
+    private static final String[] POR_DEFECTO = {"--reloj=virtual", "--log=ninguno"};
+    private static final String[] COLUMNAS = {
+            "accesos_min", "tasa_conflictos", "accesos", "conflictos", "listas", "quemadas", "robadas", "piezas",
+            "eventos", "ms_reales", "espera_p99_asador_ms", "timeouts_asador", "espera_p99_tio_ms", "timeouts_tio"
+    };
+    // Columnas que son una fracción y merecen más decimales
+    private static final int TASA_CONFLICTOS = 1;
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        int repeticiones = 1;
+        int paralelismo = Runtime.getRuntime().availableProcessors();
+        String csv = null;
+        List<String> fijos = new ArrayList<>(Arrays.asList(POR_DEFECTO));
+        List<String> dimensiones = new ArrayList<>();
+        List<String[]> valores = new ArrayList<>();
+        for (String arg : args) {
+            int igual = arg.indexOf('=');
+            String clave = igual < 0 ? arg : arg.substring(0, igual);
+            String valor = igual < 0 ? "" : arg.substring(igual + 1);
+            switch (clave) {
+                case "--repeticiones": repeticiones = Integer.parseInt(valor); break;
+                case "--paralelismo": paralelismo = Integer.parseInt(valor); break;
+                case "--csv": csv = valor; break;
+                default:
+                    if (valor.contains(",") || valor.contains("..")) {
+                        dimensiones.add(clave);
+                        valores.add(parsearValores(clave, valor));
+                    } else {
+                        fijos.add(arg);
+                    }
+            }
+        }
+        if (repeticiones < 1 || paralelismo < 1) {
+            throw new IllegalArgumentException("--repeticiones y --paralelismo necesitan valores positivos");
+        }
+        if (dimensiones.isEmpty()) {
+            throw new IllegalArgumentException("Falta al menos una opción con varios valores para barrer");
+        }
+
+        List<String[]> puntos = grilla(fijos, dimensiones, valores);
+        ConfiguracionAsado base = ConfiguracionAsado.desdeArgumentos(puntos.get(0));
+        base.validarCorridasEnParalelo("barrido");
+        SplittableRandom maestra = new SplittableRandom(base.getSemilla());
+        long[] semillas = new long[repeticiones];
+        for (int r = 0; r < repeticiones; r++) {
+            semillas[r] = maestra.nextLong();
+        }
+
+        // Una tarea por punto y repetición; los resultados se promedian por punto al final
+        List<Callable<double[]>> tareas = new ArrayList<>();
+        for (String[] punto : puntos) {
+            ConfiguracionAsado config = ConfiguracionAsado.desdeArgumentos(punto);
+            for (long semilla : semillas) {
+                tareas.add(() -> correr(config.conSemilla(semilla)));
+            }
+        }
+        ForkJoinPool pool = new ForkJoinPool(paralelismo);
+        long inicio = System.nanoTime();
+        List<Future<double[]>> futuros;
+        try {
+            futuros = pool.invokeAll(tareas);
+        } finally {
+            pool.shutdown();
+        }
+
+        PrintStream salida = csv == null ? System.out : new PrintStream(csv, StandardCharsets.UTF_8);
+        try {
+            salida.println(String.join(",", dimensiones).replace("--", "") + "," + String.join(",", COLUMNAS));
+            for (int p = 0; p < puntos.size(); p++) {
+                double[] promedio = new double[COLUMNAS.length];
+                for (int r = 0; r < repeticiones; r++) {
+                    double[] resultado = resultado(futuros.get(p * repeticiones + r));
+                    for (int c = 0; c < promedio.length; c++) {
+                        promedio[c] += resultado[c] / repeticiones;
+                    }
+                }
+                StringBuilder linea = new StringBuilder();
+                for (int d = 0; d < dimensiones.size(); d++) {
+                    linea.append(valores.get(d)[indiceEnDimension(p, d, valores)]).append(',');
+                }
+                for (int c = 0; c < promedio.length; c++) {
+                    linea.append(String.format(Locale.ROOT, c == TASA_CONFLICTOS ? "%.4f" : "%.1f", promedio[c]));
+                    linea.append(c == promedio.length - 1 ? "" : ",");
+                }
+                salida.println(linea);
+            }
+        } finally {
+            if (salida != System.out) {
+                salida.close();
+            }
+        }
+        System.err.printf("%d puntos x %d repeticiones en %d ms (paralelismo %d, semilla %d)%n",
+                puntos.size(), repeticiones, (System.nanoTime() - inicio) / 1_000_000, paralelismo, base.getSemilla());
+    }
+
+    // Corre un asado y devuelve sus resultados en el orden de COLUMNAS
+    private static double[] correr(ConfiguracionAsado config) throws InterruptedException {
+        Quincho quincho = new Quincho(config, config.crearReloj());
+        long inicio = System.nanoTime();
+        SimuladorAsadoFamiliar.simular(config, quincho);
+        long realMs = (System.nanoTime() - inicio) / 1_000_000;
+
+        double accesos = quincho.getAccesosExitosos();
+        double conflictos = quincho.getConflictos();
+        double intentos = accesos + conflictos;
+        LatenciasLocks latencias = quincho.getLatencias();
+        return new double[] {
+                accesos / (config.getDuracionSegundos() / 60.0),
+                intentos == 0 ? 0 : conflictos / intentos,
+                accesos,
+                conflictos,
+                quincho.contar(EstadoCarne.LISTA),
+                quincho.contar(EstadoCarne.QUEMADA),
+                quincho.valor(Metrica.ROBOS_EXITOSOS),
+                quincho.getCantidadPiezas(),
+                quincho.getEventosRegistrados(),
+                realMs,
+                latencias.getEspera(Rol.ASADOR).percentil(0.99) / 1e6,
+                latencias.getTimeouts(Rol.ASADOR),
+                latencias.getEspera(Rol.TIO).percentil(0.99) / 1e6,
+                latencias.getTimeouts(Rol.TIO)
+        };
+    }
+
+    private static double[] resultado(Future<double[]> futuro) throws InterruptedException {
+        try {
+            return futuro.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falló un punto del barrido", e.getCause());
+        }
+    }
+
+    // Producto cartesiano de las dimensiones; la última varía más rápido
+    private static List<String[]> grilla(List<String> fijos, List<String> dimensiones, List<String[]> valores) {
+        int total = 1;
+        for (String[] v : valores) {
+            total = Math.multiplyExact(total, v.length);
+        }
+        List<String[]> puntos = new ArrayList<>(total);
+        for (int p = 0; p < total; p++) {
+            List<String> argumentos = new ArrayList<>(fijos);
+            for (int d = 0; d < dimensiones.size(); d++) {
+                argumentos.add(dimensiones.get(d) + "=" + valores.get(d)[indiceEnDimension(p, d, valores)]);
+            }
+            puntos.add(argumentos.toArray(new String[0]));
+        }
+        return puntos;
+    }
+
+    private static int indiceEnDimension(int punto, int dimension, List<String[]> valores) {
+        int resto = punto;
+        for (int d = valores.size() - 1; d > dimension; d--) {
+            resto /= valores.get(d).length;
+        }
+        return resto % valores.get(dimension).length;
+    }
+
+    // "1,2,4", "libre,fifo", "5..30" (paso 1), "5..30:5" o "1..64*2"; cada valor lo valida
+    // después la configuración del asado
+    private static String[] parsearValores(String clave, String valor) {
+        if (!valor.contains("..")) {
+            return Arrays.stream(valor.split(",")).map(String::trim).toArray(String[]::new);
+        }
+        int puntos = valor.indexOf("..");
+        int desde = Integer.parseInt(valor.substring(0, puntos));
+        String resto = valor.substring(puntos + 2);
+        int separador = Math.max(resto.indexOf(':'), resto.indexOf('*'));
+        int hasta = Integer.parseInt(separador < 0 ? resto : resto.substring(0, separador));
+        boolean geometrico = separador >= 0 && resto.charAt(separador) == '*';
+        int paso = separador < 0 ? 1 : Integer.parseInt(resto.substring(separador + 1));
+        if (hasta < desde || paso < 1 || (geometrico && (paso < 2 || desde < 1))) {
+            throw new IllegalArgumentException("Rango inválido para " + clave + ": " + valor);
+        }
+        List<String> lista = new ArrayList<>();
+        for (long v = desde; v <= hasta; v = geometrico ? v * paso : v + paso) {
+            lista.add(Long.toString(v));
+        }
+        return lista.toArray(new String[0]);
+    }
+}
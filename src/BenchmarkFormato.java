@@ -0,0 +1,62 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+// Mide bytes asignados y tiempo por evento del formateo de la bitácora: la forma
+// original (DateTimeFormatter por evento + concatenación de Strings) contra FormatoEvento
+public class BenchmarkFormato {
+    private static final int CALENTAMIENTO = 200_000;
+    private static final int EVENTOS = 2_000_000;
+
+    private static final String ACTOR = "👨‍🍳 ASADOR PRINCIPAL";
+    private static final PiezaCarne PIEZA = new PiezaCarne(0, TipoCarne.CHORIZO, "Chorizo1", 0);
+
+    public static void main(String[] args) throws IOException {
+        com.sun.management.ThreadMXBean hilos =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        OutputStream nulo = OutputStream.nullOutputStream();
+        PrintStream nuloImpresion = new PrintStream(nulo, false, StandardCharsets.UTF_8);
+
+        System.out.printf("%-24s %14s %12s%n", "formateo", "bytes/evento", "ns/evento");
+
+        lineaOriginal(nuloImpresion, CALENTAMIENTO);
+        long bytes = hilos.getCurrentThreadAllocatedBytes();
+        long inicio = System.nanoTime();
+        lineaOriginal(nuloImpresion, EVENTOS);
+        imprimir("String + println", hilos.getCurrentThreadAllocatedBytes() - bytes, System.nanoTime() - inicio);
+
+        FormatoEvento formato = new FormatoEvento();
+        formatoSinBasura(formato, nulo, CALENTAMIENTO);
+        bytes = hilos.getCurrentThreadAllocatedBytes();
+        inicio = System.nanoTime();
+        formatoSinBasura(formato, nulo, EVENTOS);
+        imprimir("FormatoEvento", hilos.getCurrentThreadAllocatedBytes() - bytes, System.nanoTime() - inicio);
+    }
+
+    // Réplica del logEvento original, para tener la línea de base
+    private static void lineaOriginal(PrintStream salida, int eventos) {
+        for (int i = 0; i < eventos; i++) {
+            String timestamp = LocalTime.now().format(DateTimeFormatter.ofPattern("HH:mm:ss"));
+            String colorCode = "\u001B[32m";
+            String resetCode = "\u001B[0m";
+            salida.println(colorCode + "[" + timestamp + "] " + ACTOR + ": " + "✅ " + PIEZA.getNombre()
+                    + " está listo!" + resetCode);
+        }
+    }
+
+    private static void formatoSinBasura(FormatoEvento formato, OutputStream salida, int eventos) throws IOException {
+        for (int i = 0; i < eventos; i++) {
+            formato.agregar(System.currentTimeMillis(), ACTOR, TipoEvento.CARNE_LISTA, PIEZA, null,
+                    BitacoraEventos.SIN_VALOR);
+            formato.escribir(salida);
+        }
+    }
+
+    private static void imprimir(String nombre, long bytes, long nanos) {
+        System.out.printf("%-24s %14.1f %12.1f%n", nombre, (double) bytes / EVENTOS, (double) nanos / EVENTOS);
+    }
+}
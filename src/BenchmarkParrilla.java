@@ -0,0 +1,189 @@
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+// Microbenchmark de los puntos de contención de la parrilla con 1..N hilos compitiendo, al
+// estilo JMH: iteraciones de calentamiento descartadas, iteraciones de medición de duración
+// fija, resultado en ops/ms con su desvío. Usa reloj real y bitácora descartada para medir
+// los locks y semáforos y no la consola. Sirve de línea de base antes de tocar el locking.
+// Uso: java BenchmarkParrilla [--hilos=1,2,4,8] [--calentamiento=2] [--iteraciones=5]
+//                             [--ms-iteracion=1000] [--solo=<benchmark>]
+public class BenchmarkParrilla {
+    // Una operación del benchmark; devuelve algo para que el JIT no la elimine
+    interface Operacion {
+        long ejecutar(Parrilla parrilla, PiezaCarne pieza, String actor);
+    }
+
+    private static final Map<String, Operacion> BENCHMARKS = new LinkedHashMap<>();
+    static {
+        BENCHMARKS.put("accederLiberarParrilla", (parrilla, pieza, actor) -> {
+            if (parrilla.accederParrilla(actor, Rol.OTRO, 1000)) {
+                parrilla.liberarParrilla(actor);
+                return 1;
+            }
+            return 0;
+        });
+        // Tras las 15 primeras solo se mide el camino sin cerveza, igual que en el asado
+        BENCHMARKS.put("tomarCerveza", (parrilla, pieza, actor) -> parrilla.tomarCerveza(actor) ? 1 : 0);
+        BENCHMARKS.put("usarCondimentos", (parrilla, pieza, actor) -> {
+            if (parrilla.usarCondimentos(actor)) {
+                parrilla.liberarCondimentos(actor);
+                return 1;
+            }
+            return 0;
+        });
+        BENCHMARKS.put("piezaLectura", (parrilla, pieza, actor) ->
+                pieza.getEstado().ordinal() + pieza.getTiempoCoccion() + (pieza.isRobada() ? 1 : 0)
+                        + (pieza.isCondimentada() ? 1 : 0) + pieza.getZona());
+        BENCHMARKS.put("piezaEscritura", (parrilla, pieza, actor) -> {
+            pieza.incrementarTiempo();
+            pieza.setEstado(EstadoCarne.SELLANDO);
+            pieza.setCondimentada(true);
+            return 1;
+        });
+        // CAS de la palabra de estado, ida y vuelta entre cruda y sellando
+        BENCHMARKS.put("piezaTransicion", (parrilla, pieza, actor) ->
+                pieza.tryTransition(EstadoCarne.CRUDA, EstadoCarne.SELLANDO)
+                        || pieza.tryTransition(EstadoCarne.SELLANDO, EstadoCarne.CRUDA) ? 1 : 0);
+    }
+
+    // Sumidero de los resultados (el equivalente al Blackhole de JMH)
+    private static final LongAdder SUMIDERO = new LongAdder();
+
+    public static void main(String[] args) throws InterruptedException {
+        int[] hilos = {1, 2, 4, 8};
+        int calentamiento = 2;
+        int iteraciones = 5;
+        long msIteracion = 1000;
+        String solo = null;
+        for (String arg : args) {
+            int igual = arg.indexOf('=');
+            String clave = igual < 0 ? arg : arg.substring(0, igual);
+            String valor = igual < 0 ? "" : arg.substring(igual + 1);
+            switch (clave) {
+                case "--hilos": hilos = parsearLista(valor); break;
+                case "--calentamiento": calentamiento = Integer.parseInt(valor); break;
+                case "--iteraciones": iteraciones = Integer.parseInt(valor); break;
+                case "--ms-iteracion": msIteracion = Long.parseLong(valor); break;
+                case "--solo": solo = valor; break;
+                default: throw new IllegalArgumentException("Opción desconocida: " + arg);
+            }
+        }
+        if (solo != null && !BENCHMARKS.containsKey(solo)) {
+            throw new IllegalArgumentException("Benchmark desconocido: " + solo + " (hay " + BENCHMARKS.keySet() + ")");
+        }
+
+        System.out.printf("%-24s %6s %5s %14s %12s  %s%n", "Benchmark", "Hilos", "Cnt", "Score", "Desvío", "Unidad");
+        for (Map.Entry<String, Operacion> entry : BENCHMARKS.entrySet()) {
+            if (solo != null && !solo.equals(entry.getKey())) {
+                continue;
+            }
+            for (int cantidad : hilos) {
+                double[] resultados = medir(entry.getValue(), cantidad, calentamiento, iteraciones, msIteracion);
+                double media = media(resultados);
+                System.out.printf("%-24s %6d %5d %14.1f %12.1f  ops/ms%n",
+                        entry.getKey(), cantidad, iteraciones, media, desvio(resultados, media));
+            }
+        }
+        System.out.println("(sumidero: " + SUMIDERO.sum() + ")");
+    }
+
+    // Corre calentamiento + medición con una parrilla nueva; devuelve ops/ms de cada iteración medida
+    private static double[] medir(Operacion operacion, int hilos, int calentamiento, int iteraciones,
+                                  long msIteracion) throws InterruptedException {
+        ConfiguracionAsado config = ConfiguracionAsado.desdeArgumentos(new String[] {"--log=ninguno"});
+        Parrilla parrilla = new Parrilla(config, config.crearReloj());
+        PiezaCarne pieza = parrilla.getCarnes().values().iterator().next();
+        try {
+            for (int i = 0; i < calentamiento; i++) {
+                iteracion(operacion, parrilla, pieza, hilos, msIteracion);
+            }
+            double[] resultados = new double[iteraciones];
+            for (int i = 0; i < iteraciones; i++) {
+                resultados[i] = iteracion(operacion, parrilla, pieza, hilos, msIteracion);
+            }
+            return resultados;
+        } finally {
+            parrilla.terminarAsado();
+        }
+    }
+
+    private static double iteracion(Operacion operacion, Parrilla parrilla, PiezaCarne pieza, int hilos,
+                                    long msIteracion) throws InterruptedException {
+        CountDownLatch listos = new CountDownLatch(hilos);
+        CountDownLatch largada = new CountDownLatch(1);
+        LongAdder operaciones = new LongAdder();
+        List<Thread> trabajadores = new ArrayList<>();
+        Control control = new Control();
+
+        for (int h = 0; h < hilos; h++) {
+            String actor = "BENCH " + h;
+            Thread hilo = new Thread(() -> {
+                listos.countDown();
+                try {
+                    largada.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                long cuenta = 0;
+                long consumo = 0;
+                while (!control.detener) {
+                    consumo += operacion.ejecutar(parrilla, pieza, actor);
+                    cuenta++;
+                }
+                operaciones.add(cuenta);
+                SUMIDERO.add(consumo);
+            });
+            trabajadores.add(hilo);
+            hilo.start();
+        }
+        listos.await();
+        long inicio = System.nanoTime();
+        largada.countDown();
+        Thread.sleep(msIteracion);
+        control.detener = true;
+        for (Thread hilo : trabajadores) {
+            hilo.join();
+        }
+        double ms = (System.nanoTime() - inicio) / 1_000_000.0;
+        return operaciones.sum() / ms;
+    }
+
+    private static final class Control {
+        volatile boolean detener;
+    }
+
+    private static int[] parsearLista(String valor) {
+        String[] partes = valor.split(",");
+        int[] numeros = new int[partes.length];
+        for (int i = 0; i < partes.length; i++) {
+            numeros[i] = Integer.parseInt(partes[i].trim());
+            if (numeros[i] < 1) {
+                throw new IllegalArgumentException("--hilos necesita valores positivos: " + valor);
+            }
+        }
+        return numeros;
+    }
+
+    private static double media(double[] valores) {
+        double suma = 0;
+        for (double v : valores) {
+            suma += v;
+        }
+        return suma / valores.length;
+    }
+
+    private static double desvio(double[] valores, double media) {
+        if (valores.length < 2) {
+            return 0;
+        }
+        double suma = 0;
+        for (double v : valores) {
+            suma += (v - media) * (v - media);
+        }
+        return Math.sqrt(suma / (valores.length - 1));
+    }
+}
@@ -0,0 +1,48 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+
+// Corre el mismo asado con reloj virtual variando la cantidad de zonas de la parrilla
+// y compara conflictos y throughput de accesos. Los argumentos extra pisan la configuración
+// por defecto, por ejemplo: java BenchmarkZonas --tios=40 --duracion=1800
+public class BenchmarkZonas {
+    private static final int[] ZONAS = {1, 2, 4, 8};
+    private static final String[] POR_DEFECTO = {
+            "--reloj=virtual", "--duracion=600", "--asadores=2", "--tios=12", "--primos=8", "--abuelas=4"
+    };
+
+    public static void main(String[] args) {
+        String[] argumentos = Arrays.copyOf(POR_DEFECTO, POR_DEFECTO.length + args.length);
+        System.arraycopy(args, 0, argumentos, POR_DEFECTO.length, args.length);
+        ConfiguracionAsado base = ConfiguracionAsado.desdeArgumentos(argumentos);
+        if (!base.isRelojVirtual()) {
+            throw new IllegalArgumentException("El benchmark de zonas necesita --reloj=virtual");
+        }
+
+        PrintStream consola = System.out;
+        PrintStream silencio = new PrintStream(OutputStream.nullOutputStream(), false);
+        consola.printf("%6s %10s %10s %10s %14s %10s%n",
+                "zonas", "accesos", "conflictos", "% confl.", "accesos/min", "ms reales");
+
+        for (int zonas : ZONAS) {
+            ConfiguracionAsado config = base.conZonas(zonas);
+            Quincho quincho = new Quincho(config, config.crearReloj());
+            long inicio = System.nanoTime();
+            System.setOut(silencio);
+            try {
+                SimuladorAsadoFamiliar.correrAsado(config, quincho);
+            } finally {
+                System.setOut(consola);
+            }
+            long realMs = (System.nanoTime() - inicio) / 1_000_000;
+
+            long accesos = quincho.getAccesosExitosos();
+            long conflictos = quincho.getConflictos();
+            long intentos = accesos + conflictos;
+            double minutosSimulados = config.getDuracionSegundos() / 60.0;
+            consola.printf("%6d %10d %10d %9.1f%% %14.1f %10d%n",
+                    zonas, accesos, conflictos, intentos == 0 ? 0 : conflictos * 100.0 / intentos,
+                    accesos / minutosSimulados, realMs);
+        }
+    }
+}
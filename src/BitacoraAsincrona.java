@@ -0,0 +1,199 @@
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// Bitácora asíncrona: los actores publican en un ring buffer sin locks (varios
+// productores, un consumidor) y un único hilo escribe los eventos por lotes
+class BitacoraAsincrona implements BitacoraEventos {
+    private static final int TAMANIO_LOTE = 256;
+    private static final long PAUSA_CONSUMIDOR_NANOS = 500_000;
+    private static final long PAUSA_PRODUCTOR_NANOS = 50_000;
+    // Bit que cerrar() le pone a posProductor: desde ahí ningún productor puede reservar
+    private static final long CERRADO = 1L << 62;
+
+    // Celda del ring buffer: la secuencia indica de quién es el turno (productor o consumidor)
+    private static final class Celda {
+        volatile long secuencia;
+        long marcaMillis;
+        String actor;
+        TipoEvento tipo;
+        PiezaCarne pieza;
+        String texto;
+        long valor;
+    }
+
+    private final Celda[] celdas;
+    private final int mascara;
+    private final AtomicLong posProductor = new AtomicLong();
+    private volatile long posConsumidor = 0;
+
+    private final PoliticaDesborde politica;
+    // Con MUESTREAR, a partir de 3/4 de ocupación solo entra 1 de cada tasaMuestreo eventos,
+    // contados (no sorteados) entre los que llegan con el buffer por encima del umbral
+    private final int tasaMuestreo;
+    private final int umbralMuestreo;
+    private final AtomicLong enMuestreo = new AtomicLong();
+
+    private final PrintStream salida;
+    private final Thread consumidor;
+    private volatile boolean activa = true;
+
+    private final LongAdder publicados = new LongAdder();
+    private final LongAdder descartados = new LongAdder();
+    private final LongAdder descartadosPorMuestreo = new LongAdder();
+    private long lotesEscritos = 0;
+
+    public BitacoraAsincrona(int capacidad, PoliticaDesborde politica, int tasaMuestreo, PrintStream salida) {
+        if (Integer.bitCount(capacidad) != 1) {
+            throw new IllegalArgumentException("La capacidad de la bitácora debe ser potencia de 2: " + capacidad);
+        }
+        this.celdas = new Celda[capacidad];
+        for (int i = 0; i < capacidad; i++) {
+            celdas[i] = new Celda();
+            celdas[i].secuencia = i;
+        }
+        this.mascara = capacidad - 1;
+        this.politica = politica;
+        this.tasaMuestreo = tasaMuestreo;
+        this.umbralMuestreo = capacidad - capacidad / 4;
+        this.salida = salida;
+
+        this.consumidor = new Thread(this::consumir, "bitacora-asincrona");
+        consumidor.setDaemon(true);
+        consumidor.start();
+    }
+
+    @Override
+    public void registrar(long marcaMillis, String actor, TipoEvento tipo, PiezaCarne pieza, String texto, long valor) {
+        if (!activa) {
+            descartados.increment();
+            return;
+        }
+        if (politica == PoliticaDesborde.MUESTREAR
+                && (posProductor.get() & ~CERRADO) - posConsumidor >= umbralMuestreo
+                && enMuestreo.getAndIncrement() % tasaMuestreo != 0) {
+            descartadosPorMuestreo.increment();
+            return;
+        }
+        while (!intentarPublicar(marcaMillis, actor, tipo, pieza, texto, valor)) {
+            if (politica != PoliticaDesborde.BLOQUEAR || !activa) {
+                descartados.increment();
+                return;
+            }
+            LockSupport.parkNanos(PAUSA_PRODUCTOR_NANOS);
+        }
+        publicados.increment();
+    }
+
+    private boolean intentarPublicar(long marcaMillis, String actor, TipoEvento tipo, PiezaCarne pieza,
+                                     String texto, long valor) {
+        long pos = posProductor.get();
+        Celda celda;
+        while (true) {
+            if ((pos & CERRADO) != 0) {
+                return false; // Cerrada: registrar lo cuenta como descartado
+            }
+            celda = celdas[(int) (pos & mascara)];
+            long diferencia = celda.secuencia - pos;
+            if (diferencia == 0) {
+                if (posProductor.compareAndSet(pos, pos + 1)) {
+                    break;
+                }
+                pos = posProductor.get();
+            } else if (diferencia < 0) {
+                return false; // Buffer lleno
+            } else {
+                pos = posProductor.get();
+            }
+        }
+        celda.marcaMillis = marcaMillis;
+        celda.actor = actor;
+        celda.tipo = tipo;
+        celda.pieza = pieza;
+        celda.texto = texto;
+        celda.valor = valor;
+        celda.secuencia = pos + 1; // Publica la celda al consumidor
+        return true;
+    }
+
+    private void consumir() {
+        FormatoEvento lote = new FormatoEvento();
+        while (true) {
+            int leidos = drenar(lote);
+            if (leidos > 0) {
+                PrintStream destino = destino();
+                try {
+                    lote.escribir(destino);
+                } catch (IOException e) {
+                    lote.descartar(); // PrintStream nunca lanza: el catch es por la firma de OutputStream
+                }
+                destino.flush();
+                lotesEscritos++;
+            } else if (!activa) {
+                // Sale recién cuando todo lo reservado antes del cierre está publicado y escrito
+                long reservadas = posProductor.get();
+                if ((reservadas & CERRADO) != 0 && posConsumidor == (reservadas & ~CERRADO)) {
+                    return;
+                }
+                LockSupport.parkNanos(PAUSA_PRODUCTOR_NANOS);
+            } else {
+                LockSupport.parkNanos(PAUSA_CONSUMIDOR_NANOS);
+            }
+        }
+    }
+
+    private int drenar(FormatoEvento lote) {
+        long pos = posConsumidor;
+        int leidos = 0;
+        while (leidos < TAMANIO_LOTE) {
+            Celda celda = celdas[(int) (pos & mascara)];
+            if (celda.secuencia != pos + 1) {
+                break;
+            }
+            lote.agregar(celda.marcaMillis, celda.actor, celda.tipo, celda.pieza, celda.texto, celda.valor);
+            celda.actor = null;
+            celda.tipo = null;
+            celda.pieza = null;
+            celda.texto = null;
+            celda.secuencia = pos + celdas.length; // Devuelve la celda a los productores
+            pos++;
+            leidos++;
+        }
+        posConsumidor = pos;
+        return leidos;
+    }
+
+    @Override
+    public void cerrar() {
+        activa = false;
+        // Un productor que pasó el chequeo de activa todavía puede reservar celda; al sellar
+        // la posición ya no hay reservas nuevas y el consumidor espera las que quedaron
+        long pos;
+        do {
+            pos = posProductor.get();
+        } while (!posProductor.compareAndSet(pos, pos | CERRADO));
+        try {
+            consumidor.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        PrintStream destino = destino();
+        destino.flush();
+        if (salida != null) {
+            salida.close();
+        }
+        System.out.println("Bitácora asíncrona: " + publicados.sum() + " eventos escritos en "
+                + lotesEscritos + " lotes, " + descartados.sum() + " descartados por desborde, "
+                + descartadosPorMuestreo.sum() + " descartados por muestreo");
+    }
+
+    public long getPublicados() { return publicados.sum(); }
+    public long getDescartados() { return descartados.sum(); }
+    public long getDescartadosPorMuestreo() { return descartadosPorMuestreo.sum(); }
+
+    private PrintStream destino() {
+        return salida != null ? salida : System.out;
+    }
+}
@@ -0,0 +1,43 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Bitácora síncrona: cada actor imprime su propia línea bajo un lock
+class BitacoraConsola implements BitacoraEventos {
+    // ReentrantLock y no synchronized: imprimir bloquea y dentro de un monitor
+    // eso fijaría el hilo virtual a su carrier
+    private final ReentrantLock lockLog = new ReentrantLock();
+    private final FormatoEvento formato = new FormatoEvento();
+    private final PrintStream salida;
+
+    // Sin salida explícita escribe en el System.out vigente en cada evento
+    public BitacoraConsola(PrintStream salida) {
+        this.salida = salida;
+    }
+
+    @Override
+    public void registrar(long marcaMillis, String actor, TipoEvento tipo, PiezaCarne pieza, String texto, long valor) {
+        lockLog.lock();
+        try {
+            formato.agregar(marcaMillis, actor, tipo, pieza, texto, valor);
+            formato.escribir(destino());
+        } catch (IOException e) {
+            formato.descartar(); // PrintStream nunca lanza: el catch es por la firma de OutputStream
+        } finally {
+            lockLog.unlock();
+        }
+    }
+
+    @Override
+    public void cerrar() {
+        destino().flush();
+        if (salida != null) {
+            salida.close();
+        }
+    }
+
+    private PrintStream destino() {
+        return salida != null ? salida : System.out;
+    }
+}
@@ -0,0 +1,10 @@
+// Destino de los eventos que registra la parrilla. El argumento del evento es la
+// pieza (si hay), si no el texto (si hay), si no el valor (si no es SIN_VALOR).
+interface BitacoraEventos {
+    long SIN_VALOR = Long.MIN_VALUE;
+
+    void registrar(long marcaMillis, String actor, TipoEvento tipo, PiezaCarne pieza, String texto, long valor);
+
+    // Vacía lo pendiente y libera recursos
+    default void cerrar() {}
+}
@@ -0,0 +1,29 @@
+import java.util.concurrent.atomic.AtomicLong;
+
+// Bitácora del modo headless: deja pasar el resumen y solo 1 de cada tasaMuestreo de los
+// demás eventos (ninguno si la tasa es 0), para que la consola no marque el ritmo del asado.
+// Se muestrea contando y no sorteando: con reloj virtual los eventos llegan siempre en el
+// mismo orden, así que la misma semilla imprime las mismas líneas.
+class BitacoraMuestreada implements BitacoraEventos {
+    private final BitacoraEventos destino;
+    private final int tasaMuestreo;
+    private final AtomicLong vistos = new AtomicLong();
+
+    public BitacoraMuestreada(BitacoraEventos destino, int tasaMuestreo) {
+        this.destino = destino;
+        this.tasaMuestreo = tasaMuestreo;
+    }
+
+    @Override
+    public void registrar(long marcaMillis, String actor, TipoEvento tipo, PiezaCarne pieza, String texto, long valor) {
+        if (tipo.esResumen()
+                || (tasaMuestreo > 0 && vistos.getAndIncrement() % tasaMuestreo == 0)) {
+            destino.registrar(marcaMillis, actor, tipo, pieza, texto, valor);
+        }
+    }
+
+    @Override
+    public void cerrar() {
+        destino.cerrar();
+    }
+}
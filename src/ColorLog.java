@@ -0,0 +1,20 @@
+import java.nio.charset.StandardCharsets;
+
+// Color ANSI de una línea de la bitácora, con la secuencia ya codificada
+enum ColorLog {
+    NINGUNO(""),
+    ROJO("\u001B[31m"),
+    VERDE("\u001B[32m"),
+    AMARILLO("\u001B[33m"),
+    AZUL("\u001B[34m"),
+    VIOLETA("\u001B[35m"),
+    CIAN("\u001B[36m");
+
+    private static final byte[] RESET = "\u001B[0m".getBytes(StandardCharsets.US_ASCII);
+    private final byte[] codigo;
+
+    ColorLog(String codigo) { this.codigo = codigo.getBytes(StandardCharsets.US_ASCII); }
+
+    public byte[] getCodigo() { return codigo; }
+    public byte[] getReset() { return this == NINGUNO ? codigo : RESET; }
+}
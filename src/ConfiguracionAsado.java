@@ -0,0 +1,368 @@
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// Parámetros del asado leídos de la línea de comandos (--clave=valor)
+class ConfiguracionAsado implements Cloneable {
+    private int duracionSegundos = 60;
+    private boolean relojVirtual = false;
+
+    // Hilos de los actores y cantidad por rol
+    private TipoHilos tipoHilos = TipoHilos.PLATAFORMA;
+    private boolean compararHilos = false;
+    private int asadores = 1;
+    private int tios = 3;
+    private int primos = 2;
+    private int abuelas = 1;
+    private boolean diagnosticoPinning = false;
+    // Publica el estado de cada parrilla como MBean mientras dura el asado
+    private boolean jmx = false;
+    // Puerto local de /metrics para Prometheus; -1 apagado, 0 cualquiera libre
+    private int puertoMetricas = -1;
+    // Puerto local del stream de eventos (server-sent events); -1 apagado, 0 cualquiera libre
+    private int puertoEventos = -1;
+
+    // Zonas de la parrilla, cada una con su propio lock
+    private int zonas = 1;
+    // Piezas de carne: las 7 de siempre, o más repitiendo la misma mezcla
+    private int piezas = 7;
+    // Parrillas del quincho; las piezas y los actores se reparten entre ellas
+    private int parrillas = 1;
+
+    // Recursos de cada parrilla (permisos de los semáforos) y esperas máximas por las zonas
+    private int cervezas = 15;
+    private int pinzas = 1;
+    private int condimentos = 3;
+    private int timeoutAsadorMs = 3000;
+    private int timeoutTioMs = 1500;
+    // Cómo se reparte cada zona entre los que la esperan
+    private TipoPolitica politica = TipoPolitica.LIBRE;
+
+    // Bitácora de eventos
+    private TipoBitacora log = TipoBitacora.CONSOLA;
+    private String logArchivo = null;
+    private PoliticaDesborde logDesborde = PoliticaDesborde.BLOQUEAR;
+    private int logCapacidad = 8192;
+    private int logMuestreo = 10;
+
+    // Modo headless: sin un evento por línea, con resúmenes periódicos de progreso
+    private boolean headless = false;
+    private int muestreoConsola = 0;
+    private int progresoSegundos = 0;
+
+    // Diario binario mapeado en memoria, además de la bitácora de texto
+    private String diario = null;
+
+    // Semilla maestra de todo el azar del asado; sin --semilla se sortea una. Con reloj
+    // virtual la misma semilla repite el mismo asado.
+    private long semilla = new SplittableRandom().nextLong();
+
+    public static ConfiguracionAsado desdeArgumentos(String[] args) {
+        ConfiguracionAsado config = new ConfiguracionAsado();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Argumento inválido: " + arg);
+            }
+            int igual = arg.indexOf('=');
+            String clave = igual < 0 ? arg.substring(2) : arg.substring(2, igual);
+            String valor = igual < 0 ? "" : arg.substring(igual + 1);
+            config.aplicar(clave, valor);
+        }
+        return config;
+    }
+
+    private void aplicar(String clave, String valor) {
+        switch (clave) {
+            case "duracion":
+                duracionSegundos = Integer.parseInt(valor);
+                break;
+            case "reloj":
+                if (valor.equals("virtual")) {
+                    relojVirtual = true;
+                } else if (valor.equals("real")) {
+                    relojVirtual = false;
+                } else {
+                    throw new IllegalArgumentException("Reloj desconocido: " + valor);
+                }
+                break;
+            case "hilos":
+                tipoHilos = parsearTipoHilos(valor);
+                break;
+            case "comparar-hilos":
+                compararHilos = true;
+                break;
+            case "asadores":
+                asadores = parsearCantidad(clave, valor);
+                break;
+            case "tios":
+                tios = parsearCantidad(clave, valor);
+                break;
+            case "primos":
+                primos = parsearCantidad(clave, valor);
+                break;
+            case "abuelas":
+                abuelas = parsearCantidad(clave, valor);
+                break;
+            case "diagnostico-pinning":
+                diagnosticoPinning = true;
+                break;
+            case "jmx":
+                jmx = true;
+                break;
+            case "metricas-http":
+                puertoMetricas = valor.isEmpty() ? 0 : parsearCantidad(clave, valor);
+                if (puertoMetricas > 65535) {
+                    throw new IllegalArgumentException("Puerto inválido para --metricas-http: " + valor);
+                }
+                break;
+            case "eventos-http":
+                puertoEventos = valor.isEmpty() ? 0 : parsearCantidad(clave, valor);
+                if (puertoEventos > 65535) {
+                    throw new IllegalArgumentException("Puerto inválido para --eventos-http: " + valor);
+                }
+                break;
+            case "zonas":
+                zonas = parsearCantidad(clave, valor);
+                if (zonas == 0) {
+                    throw new IllegalArgumentException("La parrilla necesita al menos una zona");
+                }
+                break;
+            case "piezas":
+                piezas = parsearCantidad(clave, valor);
+                break;
+            case "cervezas":
+                cervezas = parsearCantidad(clave, valor);
+                break;
+            case "pinzas":
+                pinzas = parsearCantidad(clave, valor);
+                break;
+            case "condimentos":
+                condimentos = parsearCantidad(clave, valor);
+                break;
+            case "timeout-asador":
+                timeoutAsadorMs = parsearCantidad(clave, valor);
+                break;
+            case "timeout-tio":
+                timeoutTioMs = parsearCantidad(clave, valor);
+                break;
+            case "politica":
+                politica = parsearPolitica(valor);
+                break;
+            case "semilla":
+                semilla = Long.parseLong(valor);
+                break;
+            case "parrillas":
+                parrillas = parsearCantidad(clave, valor);
+                if (parrillas == 0) {
+                    throw new IllegalArgumentException("El quincho necesita al menos una parrilla");
+                }
+                break;
+            case "log":
+                log = parsearBitacora(valor);
+                break;
+            case "log-archivo":
+                logArchivo = valor;
+                break;
+            case "log-desborde":
+                logDesborde = parsearDesborde(valor);
+                break;
+            case "log-capacidad":
+                logCapacidad = parsearCantidad(clave, valor);
+                break;
+            case "log-muestreo":
+                logMuestreo = parsearCantidad(clave, valor);
+                if (logMuestreo == 0) {
+                    throw new IllegalArgumentException("--log-muestreo debe ser al menos 1");
+                }
+                break;
+            case "headless":
+                headless = true;
+                break;
+            case "muestreo-consola":
+                muestreoConsola = parsearCantidad(clave, valor);
+                break;
+            case "progreso":
+                progresoSegundos = parsearCantidad(clave, valor);
+                if (progresoSegundos == 0) {
+                    throw new IllegalArgumentException("--progreso debe ser al menos 1 segundo");
+                }
+                break;
+            case "diario":
+                if (valor.isEmpty()) {
+                    throw new IllegalArgumentException("--diario necesita una ruta de archivo");
+                }
+                diario = valor;
+                break;
+            default:
+                throw new IllegalArgumentException("Opción desconocida: --" + clave);
+        }
+    }
+
+    private static TipoHilos parsearTipoHilos(String valor) {
+        switch (valor) {
+            case "plataforma": return TipoHilos.PLATAFORMA;
+            case "virtual": return TipoHilos.VIRTUAL;
+            default: throw new IllegalArgumentException("Tipo de hilos desconocido: " + valor);
+        }
+    }
+
+    private static TipoPolitica parsearPolitica(String valor) {
+        switch (valor) {
+            case "libre": return TipoPolitica.LIBRE;
+            case "fifo": return TipoPolitica.FIFO;
+            case "prioridad": return TipoPolitica.PRIORIDAD;
+            case "ticket": return TipoPolitica.TICKET;
+            case "loteria": return TipoPolitica.LOTERIA;
+            default: throw new IllegalArgumentException("Política de acceso desconocida: " + valor);
+        }
+    }
+
+    private static TipoBitacora parsearBitacora(String valor) {
+        switch (valor) {
+            case "consola": return TipoBitacora.CONSOLA;
+            case "asincrono": return TipoBitacora.ASINCRONO;
+            case "ninguno": return TipoBitacora.NINGUNO;
+            default: throw new IllegalArgumentException("Bitácora desconocida: " + valor);
+        }
+    }
+
+    private static PoliticaDesborde parsearDesborde(String valor) {
+        switch (valor) {
+            case "bloquear": return PoliticaDesborde.BLOQUEAR;
+            case "descartar": return PoliticaDesborde.DESCARTAR;
+            case "muestrear": return PoliticaDesborde.MUESTREAR;
+            default: throw new IllegalArgumentException("Política de desborde desconocida: " + valor);
+        }
+    }
+
+    private static int parsearCantidad(String clave, String valor) {
+        int cantidad = Integer.parseInt(valor);
+        if (cantidad < 0) {
+            throw new IllegalArgumentException("--" + clave + " no puede ser negativo: " + valor);
+        }
+        return cantidad;
+    }
+
+    private ConfiguracionAsado copiar() {
+        try {
+            return (ConfiguracionAsado) clone();
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    // Copia de esta configuración con otro tipo de hilos
+    public ConfiguracionAsado conHilos(TipoHilos tipo) {
+        ConfiguracionAsado copia = copiar();
+        copia.tipoHilos = tipo;
+        return copia;
+    }
+
+    public Thread crearHilo(Runnable tarea) {
+        return tipoHilos == TipoHilos.VIRTUAL ? Thread.ofVirtual().unstarted(tarea) : new Thread(tarea);
+    }
+
+    // Copia de esta configuración con otra semilla
+    public ConfiguracionAsado conSemilla(long semilla) {
+        ConfiguracionAsado copia = copiar();
+        copia.semilla = semilla;
+        return copia;
+    }
+
+    // Copia de esta configuración con otra cantidad de zonas
+    public ConfiguracionAsado conZonas(int zonas) {
+        ConfiguracionAsado copia = copiar();
+        copia.zonas = zonas;
+        return copia;
+    }
+
+    public BitacoraEventos crearBitacora() {
+        BitacoraEventos bitacora = crearBitacoraTexto();
+        return headless ? new BitacoraMuestreada(bitacora, muestreoConsola) : bitacora;
+    }
+
+    private BitacoraEventos crearBitacoraTexto() {
+        if (log == TipoBitacora.NINGUNO) {
+            return (marcaMillis, actor, tipo, pieza, texto, valor) -> {};
+        }
+        PrintStream salida = null;
+        if (logArchivo != null) {
+            try {
+                salida = new PrintStream(new FileOutputStream(logArchivo), false, StandardCharsets.UTF_8);
+            } catch (FileNotFoundException e) {
+                throw new UncheckedIOException("No se pudo abrir la bitácora " + logArchivo, e);
+            }
+        }
+        if (log == TipoBitacora.ASINCRONO) {
+            return new BitacoraAsincrona(logCapacidad, logDesborde, logMuestreo, salida);
+        }
+        return new BitacoraConsola(salida);
+    }
+
+    // La bitácora de texto y, si se pidieron, el diario binario y el stream de eventos
+    public BitacoraEventos[] crearBitacoras() {
+        List<BitacoraEventos> bitacoras = new ArrayList<>();
+        bitacoras.add(crearBitacora());
+        if (diario != null) {
+            bitacoras.add(new DiarioEventos(diario));
+        }
+        if (puertoEventos >= 0) {
+            bitacoras.add(new ServidorEventos(puertoEventos));
+        }
+        return bitacoras.toArray(new BitacoraEventos[0]);
+    }
+
+    // Para los arneses que corren muchos asados a la vez con esta configuración (lote y
+    // barrido): cada corrida crea sus propias bitácoras, así que nada que apunte a un mismo
+    // archivo o puerto puede repetirse
+    public void validarCorridasEnParalelo(String arnes) {
+        if (!relojVirtual) {
+            throw new IllegalArgumentException("El " + arnes + " necesita --reloj=virtual");
+        }
+        if (diario != null) {
+            throw new IllegalArgumentException("Las corridas del " + arnes + " no pueden compartir un --diario");
+        }
+        if (puertoEventos >= 0) {
+            throw new IllegalArgumentException("El " + arnes + " no transmite eventos: --eventos-http es para una sola corrida");
+        }
+    }
+
+    public Reloj crearReloj() {
+        return relojVirtual ? new RelojVirtual() : new RelojReal();
+    }
+
+    public int getDuracionSegundos() { return duracionSegundos; }
+    public boolean isRelojVirtual() { return relojVirtual; }
+    public TipoHilos getTipoHilos() { return tipoHilos; }
+    public boolean isCompararHilos() { return compararHilos; }
+    public int getAsadores() { return asadores; }
+    public int getTios() { return tios; }
+    public int getPrimos() { return primos; }
+    public int getAbuelas() { return abuelas; }
+    public boolean isDiagnosticoPinning() { return diagnosticoPinning; }
+    public boolean isJmx() { return jmx; }
+    public int getPuertoMetricas() { return puertoMetricas; }
+    public int getPuertoEventos() { return puertoEventos; }
+    public int getZonas() { return zonas; }
+    public int getPiezas() { return piezas; }
+    public int getParrillas() { return parrillas; }
+    public long getSemilla() { return semilla; }
+    public int getCervezas() { return cervezas; }
+    public int getPinzas() { return pinzas; }
+    public int getCondimentos() { return condimentos; }
+    public int getTimeoutAsadorMs() { return timeoutAsadorMs; }
+    public int getTimeoutTioMs() { return timeoutTioMs; }
+    public TipoPolitica getPolitica() { return politica; }
+    public String getDiario() { return diario; }
+    public boolean isHeadless() { return headless; }
+
+    // Sin --progreso, unas 20 líneas por asado y no más de una cada 10 s de reloj
+    public int getProgresoSegundos() {
+        return progresoSegundos > 0 ? progresoSegundos : Math.max(10, duracionSegundos / 20);
+    }
+}
@@ -0,0 +1,66 @@
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+// Cuenta los eventos jdk.VirtualThreadPinned de JFR agrupados por sitio de llamada,
+// para encontrar qué monitor del simulador fija los hilos virtuales a su carrier
+class DiagnosticoPinning {
+    private static final class Sitio {
+        final LongAdder eventos = new LongAdder();
+        final LongAdder nanosFijado = new LongAdder();
+    }
+
+    private final Map<String, Sitio> sitios = new ConcurrentHashMap<>();
+    private final RecordingStream stream = new RecordingStream();
+
+    public void iniciar() {
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", this::registrar);
+        stream.startAsync();
+    }
+
+    public void detenerEImprimir() {
+        stream.stop();
+        stream.close();
+
+        System.out.println("\n=== PINNING DE HILOS VIRTUALES ===");
+        if (sitios.isEmpty()) {
+            System.out.println("Sin eventos de pinning");
+            return;
+        }
+        List<Map.Entry<String, Sitio>> ordenados = new ArrayList<>(sitios.entrySet());
+        ordenados.sort((a, b) -> Long.compare(b.getValue().eventos.sum(), a.getValue().eventos.sum()));
+        for (Map.Entry<String, Sitio> entry : ordenados) {
+            Sitio sitio = entry.getValue();
+            System.out.printf("%8d eventos %10.1f ms  %s%n",
+                    sitio.eventos.sum(), sitio.nanosFijado.sum() / 1_000_000.0, entry.getKey());
+        }
+    }
+
+    private void registrar(RecordedEvent evento) {
+        Sitio sitio = sitios.computeIfAbsent(sitioDeLlamada(evento.getStackTrace()), k -> new Sitio());
+        sitio.eventos.increment();
+        sitio.nanosFijado.add(evento.getDuration().toNanos());
+    }
+
+    // Primer frame del simulador en la pila (los de java.* y jdk.* son el bloqueo en sí)
+    private static String sitioDeLlamada(RecordedStackTrace pila) {
+        if (pila == null) {
+            return "(sin pila)";
+        }
+        for (RecordedFrame frame : pila.getFrames()) {
+            String clase = frame.getMethod().getType().getName();
+            if (!clase.startsWith("java.") && !clase.startsWith("jdk.") && !clase.startsWith("sun.")) {
+                return clase + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return "(solo frames del JDK)";
+    }
+}
@@ -0,0 +1,166 @@
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Diario binario de eventos: registros de tamaño fijo escritos sobre un FileChannel mapeado
+// en memoria. Cada escritor reserva su registro con un contador atómico y escribe con puts
+// absolutos, así varios actores escriben a la vez sin lock. El archivo crece por segmentos.
+//
+// Formato (little endian):
+//   cabecera (32 bytes): "ASADOJ01", versión (int), tamaño de registro (int), registros (long), 0 (long)
+//   registro (32 bytes): marca ms (long), actor (int), evento (short), 0 (short),
+//                        pieza (int, -1 si no hay), 0 (int), valor (long, SIN_VALOR si no hay)
+// Los nombres de actores y piezas van aparte, en <archivo>.nombres ("A id nombre" / "P id nombre").
+// La parte fija de la cabecera se escribe al abrir y la cantidad de registros al cerrar: si el
+// proceso muere antes, la cantidad queda en 0 y LectorDiario recupera los registros recorriendo
+// hasta el primero con marca 0. Por eso la marca es lo último que se escribe de cada registro.
+class DiarioEventos implements BitacoraEventos {
+    static final byte[] MAGIA = "ASADOJ01".getBytes(StandardCharsets.US_ASCII);
+    static final int VERSION = 1;
+    static final int TAMANIO_CABECERA = 32;
+    static final int TAMANIO_REGISTRO = 32;
+    static final int REGISTROS_POR_SEGMENTO = 1 << 20;
+    static final long BYTES_POR_SEGMENTO = (long) REGISTROS_POR_SEGMENTO * TAMANIO_REGISTRO;
+    private static final int MAX_SEGMENTOS = 1 << 16;
+    // Escritura release de la marca, para que no se adelante al resto del registro
+    private static final VarHandle MARCA = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final Path ruta;
+    private final FileChannel canal;
+    private final MappedByteBuffer cabecera;
+    private final AtomicReferenceArray<MappedByteBuffer> segmentos = new AtomicReferenceArray<>(MAX_SEGMENTOS);
+    private final ReentrantLock lockMapeo = new ReentrantLock();
+    private final AtomicLong siguienteRegistro = new AtomicLong();
+
+    private final Map<String, Integer> idsActores = new ConcurrentHashMap<>();
+    private final AtomicInteger siguienteActor = new AtomicInteger();
+    private final Map<Integer, String> nombresPiezas = new ConcurrentHashMap<>();
+    private volatile boolean abierto = true;
+    // Escritores que pasaron por la entrada y no terminaron: cerrar() espera que lleguen a
+    // cero antes de recortar el archivo, así nadie escribe en un mapeo ya recortado
+    private final AtomicInteger escribiendo = new AtomicInteger();
+
+    public DiarioEventos(String archivo) {
+        this.ruta = Paths.get(archivo);
+        try {
+            this.canal = FileChannel.open(ruta, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            this.cabecera = canal.map(FileChannel.MapMode.READ_WRITE, 0, TAMANIO_CABECERA);
+            cabecera.order(ByteOrder.LITTLE_ENDIAN);
+            cabecera.put(MAGIA);
+            cabecera.putInt(VERSION);
+            cabecera.putInt(TAMANIO_REGISTRO);
+            cabecera.putLong(0);
+            cabecera.force();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir el diario " + archivo, e);
+        }
+    }
+
+    @Override
+    public void registrar(long marcaMillis, String actor, TipoEvento tipo, PiezaCarne pieza, String texto, long valor) {
+        // Anotarse antes de mirar abierto: si cerrar() ya lo bajó, este escritor se va sin
+        // reservar; si no, cerrar() lo ve anotado y lo espera
+        escribiendo.incrementAndGet();
+        try {
+            if (!abierto) {
+                return;
+            }
+            long numero = siguienteRegistro.getAndIncrement();
+            MappedByteBuffer segmento = segmento((int) (numero / REGISTROS_POR_SEGMENTO));
+            int pos = (int) (numero % REGISTROS_POR_SEGMENTO) * TAMANIO_REGISTRO;
+
+            int idPieza = -1;
+            if (pieza != null) {
+                idPieza = pieza.getId();
+                nombresPiezas.putIfAbsent(idPieza, pieza.getNombre());
+            }
+            segmento.putInt(pos + 8, idActor(actor));
+            segmento.putShort(pos + 12, (short) tipo.ordinal());
+            segmento.putInt(pos + 16, idPieza);
+            segmento.putLong(pos + 24, valor);
+            MARCA.setRelease(segmento, pos, marcaMillis);
+        } finally {
+            escribiendo.decrementAndGet();
+        }
+    }
+
+    private int idActor(String actor) {
+        Integer id = idsActores.get(actor);
+        return id != null ? id : idsActores.computeIfAbsent(actor, k -> siguienteActor.getAndIncrement());
+    }
+
+    private MappedByteBuffer segmento(int indice) {
+        MappedByteBuffer segmento = segmentos.get(indice);
+        if (segmento != null) {
+            return segmento;
+        }
+        lockMapeo.lock();
+        try {
+            segmento = segmentos.get(indice);
+            if (segmento == null) {
+                long inicio = TAMANIO_CABECERA + indice * BYTES_POR_SEGMENTO;
+                segmento = canal.map(FileChannel.MapMode.READ_WRITE, inicio, BYTES_POR_SEGMENTO);
+                segmento.order(ByteOrder.LITTLE_ENDIAN);
+                segmentos.set(indice, segmento);
+            }
+            return segmento;
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo extender el diario " + ruta, e);
+        } finally {
+            lockMapeo.unlock();
+        }
+    }
+
+    @Override
+    public void cerrar() {
+        abierto = false;
+        // Los que ya reservaron registro terminan de escribirlo; después nadie más reserva,
+        // así que todo registro contado en la cabecera está escrito
+        while (escribiendo.get() > 0) {
+            Thread.yield();
+        }
+        long registros = siguienteRegistro.get();
+        try {
+            for (int i = 0; i < MAX_SEGMENTOS && segmentos.get(i) != null; i++) {
+                segmentos.get(i).force();
+            }
+            cabecera.putLong(MAGIA.length + 8, registros);
+            cabecera.force();
+            // Recorta el último segmento, que se mapeó entero
+            canal.truncate(TAMANIO_CABECERA + registros * TAMANIO_REGISTRO);
+            canal.close();
+            escribirNombres();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo cerrar el diario " + ruta, e);
+        }
+        System.out.println("Diario binario: " + registros + " registros en " + ruta);
+    }
+
+    private void escribirNombres() throws IOException {
+        try (PrintWriter nombres = new PrintWriter(Files.newBufferedWriter(rutaNombres(ruta), StandardCharsets.UTF_8))) {
+            idsActores.forEach((nombre, id) -> nombres.println("A " + id + " " + nombre));
+            nombresPiezas.forEach((id, nombre) -> nombres.println("P " + id + " " + nombre));
+        }
+    }
+
+    static Path rutaNombres(Path diario) {
+        return Paths.get(diario + ".nombres");
+    }
+}
@@ -0,0 +1,12 @@
+enum EstadoCarne {
+    CRUDA("cruda"),
+    SELLANDO("sellando"),
+    PRIMERA_VUELTA("primera_vuelta"),
+    SEGUNDA_VUELTA("segunda_vuelta"),
+    LISTA("lista"),
+    QUEMADA("quemada");
+
+    private final String descripcion;
+    EstadoCarne(String descripcion) { this.descripcion = descripcion; }
+    @Override public String toString() { return descripcion; }
+}
@@ -0,0 +1,71 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+// Prueba de estrés del registro de métricas: 64 hilos incrementan todas las métricas a la vez
+// y al final cada una tiene que valer exactamente hilos * incrementos. Como contraste corre lo
+// mismo con un volatile int++ como el de los contadores viejos, que sí pierde incrementos.
+// Sale con código 1 si el registro perdió algo. Uso: java EstresMetricas [hilos] [incrementos]
+public class EstresMetricas {
+    private static volatile int contadorVolatil = 0;
+
+    public static void main(String[] args) throws InterruptedException {
+        int hilos = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        int incrementos = args.length > 1 ? Integer.parseInt(args[1]) : 200_000;
+        long esperado = (long) hilos * incrementos;
+
+        MetricasAsado metricas = new MetricasAsado();
+        long nanos = correr(hilos, () -> {
+            for (int i = 0; i < incrementos; i++) {
+                for (Metrica metrica : Metrica.values()) {
+                    metricas.incrementar(metrica);
+                }
+            }
+        });
+
+        boolean ok = true;
+        System.out.printf("%d hilos x %d incrementos (%d franjas, %.0f ms)%n",
+                hilos, incrementos, metricas.getFranjas(), nanos / 1e6);
+        for (Metrica metrica : Metrica.values()) {
+            long valor = metricas.valor(metrica);
+            boolean igual = valor == esperado;
+            ok &= igual;
+            System.out.printf("%-22s %12d %s%n", metrica, valor, igual ? "OK" : "PERDIÓ " + (esperado - valor));
+        }
+
+        correr(hilos, () -> {
+            for (int i = 0; i < incrementos; i++) {
+                contadorVolatil++;
+            }
+        });
+        System.out.printf("%-22s %12d (perdió %d)%n", "volatile int++", contadorVolatil, esperado - contadorVolatil);
+
+        if (!ok) {
+            System.out.println("El registro de métricas perdió incrementos");
+            System.exit(1);
+        }
+    }
+
+    private static long correr(int hilos, Runnable tarea) throws InterruptedException {
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Thread> trabajadores = new ArrayList<>();
+        for (int h = 0; h < hilos; h++) {
+            Thread hilo = new Thread(() -> {
+                try {
+                    largada.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                tarea.run();
+            });
+            trabajadores.add(hilo);
+            hilo.start();
+        }
+        long inicio = System.nanoTime();
+        largada.countDown();
+        for (Thread hilo : trabajadores) {
+            hilo.join();
+        }
+        return System.nanoTime() - inicio;
+    }
+}
@@ -0,0 +1,37 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+// Eventos del asado para Java Flight Recorder (este y los demás Evento*), así una grabación
+// muestra los accesos a la parrilla, robos y demás al lado de GC, safepoints y hilos
+// estacionados. Si no se está grabando, crear el evento y preguntar shouldCommit() no cuesta
+// nada: el JIT elimina la asignación. Se activan con -XX:StartFlightRecording o jcmd
+// JFR.start (ver README).
+@Name("asado.AccesoParrilla")
+@Label("Acceso a la parrilla")
+@Category({"Asado", "Parrilla"})
+@Description("Pedido de zonas de la parrilla; la duración es la espera en tiempo real hasta tomarlas o rendirse")
+@StackTrace(false)
+class EventoAccesoParrilla extends Event {
+    @Label("Actor")
+    String actor;
+
+    @Label("Rol")
+    String rol;
+
+    @Label("Zonas")
+    String zonas;
+
+    @Label("Éxito")
+    @Description("false si se venció el timeout")
+    boolean exito;
+
+    @Label("Espera en el reloj del asado")
+    @Description("Igual a la duración con reloj real; con reloj virtual es el tiempo simulado")
+    @Timespan(Timespan.NANOSECONDS)
+    long espera;
+}
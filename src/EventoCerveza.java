@@ -0,0 +1,19 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("asado.Cerveza")
+@Label("Cerveza")
+@Category({"Asado", "Recursos"})
+@StackTrace(false)
+class EventoCerveza extends Event {
+    @Label("Actor")
+    String actor;
+
+    @Label("Conseguida")
+    @Description("false si no quedaban permisos en la heladera")
+    boolean conseguida;
+}
@@ -0,0 +1,17 @@
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("asado.Condimento")
+@Label("Condimento de pieza")
+@Category({"Asado", "Carne"})
+@StackTrace(false)
+class EventoCondimento extends Event {
+    @Label("Actor")
+    String actor;
+
+    @Label("Pieza")
+    String pieza;
+}
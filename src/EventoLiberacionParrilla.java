@@ -0,0 +1,25 @@
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("asado.LiberacionParrilla")
+@Label("Liberación de la parrilla")
+@Category({"Asado", "Parrilla"})
+@StackTrace(false)
+class EventoLiberacionParrilla extends Event {
+    @Label("Actor")
+    String actor;
+
+    @Label("Rol")
+    String rol;
+
+    @Label("Zonas")
+    String zonas;
+
+    @Label("Retención en el reloj del asado")
+    @Timespan(Timespan.NANOSECONDS)
+    long retencion;
+}
@@ -0,0 +1,20 @@
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("asado.Robo")
+@Label("Robo de pieza")
+@Category({"Asado", "Carne"})
+@StackTrace(false)
+class EventoRobo extends Event {
+    @Label("Actor")
+    String actor;
+
+    @Label("Pieza")
+    String pieza;
+
+    @Label("Estado")
+    String estado;
+}
@@ -0,0 +1,23 @@
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("asado.TransicionPieza")
+@Label("Transición de pieza")
+@Category({"Asado", "Carne"})
+@StackTrace(false)
+class EventoTransicionPieza extends Event {
+    @Label("Pieza")
+    String pieza;
+
+    @Label("Tipo")
+    String tipo;
+
+    @Label("Desde")
+    String desde;
+
+    @Label("Hacia")
+    String hacia;
+}
@@ -0,0 +1,157 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Formatea eventos como [HH:mm:ss] ACTOR: evento (con color ANSI) directo a bytes UTF-8 en
+// un buffer reutilizable, sin generar basura: la hora se recalcula una vez por segundo, los
+// nombres de actores se codifican una vez y los textos fijos vienen codificados en TipoEvento.
+// No es thread-safe: cada escritor usa su propia instancia.
+final class FormatoEvento {
+    // Compartido entre formateadores: los nombres de actores son pocos y fijos
+    private static final Map<String, byte[]> ACTORES_UTF8 = new ConcurrentHashMap<>();
+    private static final byte[] SEPARADOR_LINEA = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ANTES_ACTOR = "] ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] DESPUES_ACTOR = ": ".getBytes(StandardCharsets.US_ASCII);
+
+    private final ZoneRules reglasZona = ZoneId.systemDefault().getRules();
+    private byte[] buffer = new byte[4096];
+    private int largo = 0;
+
+    // Hora cacheada con granularidad de segundo
+    private final byte[] hora = new byte[9];
+    private long segundoCacheado = Long.MIN_VALUE;
+    private long offsetSegundos;
+    private long limiteOffset = Long.MIN_VALUE;
+
+    public void agregar(long marcaMillis, String actor, TipoEvento tipo, PiezaCarne pieza, String texto, long valor) {
+        ColorLog color = tipo.getColor();
+        agregarBytes(color.getCodigo());
+        agregarBytes(hora(marcaMillis));
+        agregarBytes(ANTES_ACTOR);
+        agregarBytes(ACTORES_UTF8.computeIfAbsent(actor, FormatoEvento::codificar));
+        agregarBytes(DESPUES_ACTOR);
+        agregarBytes(tipo.getPrefijoUtf8());
+        if (pieza != null) {
+            agregarBytes(pieza.getNombreUtf8());
+        } else if (texto != null) {
+            agregarTexto(texto);
+        } else if (valor != BitacoraEventos.SIN_VALOR) {
+            agregarNumero(valor);
+        }
+        agregarBytes(tipo.getSufijoUtf8());
+        agregarBytes(color.getReset());
+        agregarBytes(SEPARADOR_LINEA);
+    }
+
+    public int getLargo() { return largo; }
+
+    // Escribe lo acumulado y deja el buffer listo para reusar
+    public void escribir(OutputStream salida) throws IOException {
+        salida.write(buffer, 0, largo);
+        largo = 0;
+    }
+
+    public void descartar() {
+        largo = 0;
+    }
+
+    private static byte[] codificar(String texto) {
+        return texto.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // "[HH:mm:ss" del segundo de la marca; solo se recalcula al cambiar de segundo
+    private byte[] hora(long marcaMillis) {
+        long segundo = Math.floorDiv(marcaMillis, 1000);
+        if (segundo != segundoCacheado) {
+            if (segundo >= limiteOffset) {
+                actualizarOffset(segundo);
+            }
+            long delDia = Math.floorMod(segundo + offsetSegundos, 86_400L);
+            hora[0] = '[';
+            dosDigitos(hora, 1, delDia / 3600);
+            hora[3] = ':';
+            dosDigitos(hora, 4, delDia / 60 % 60);
+            hora[6] = ':';
+            dosDigitos(hora, 7, delDia % 60);
+            segundoCacheado = segundo;
+        }
+        return hora;
+    }
+
+    // El offset de la zona horaria solo cambia en las transiciones (horario de verano)
+    private void actualizarOffset(long segundo) {
+        Instant instante = Instant.ofEpochSecond(segundo);
+        offsetSegundos = reglasZona.getOffset(instante).getTotalSeconds();
+        ZoneOffsetTransition siguiente = reglasZona.nextTransition(instante);
+        limiteOffset = siguiente == null ? Long.MAX_VALUE : siguiente.toEpochSecond();
+    }
+
+    private static void dosDigitos(byte[] destino, int pos, long valor) {
+        destino[pos] = (byte) ('0' + valor / 10);
+        destino[pos + 1] = (byte) ('0' + valor % 10);
+    }
+
+    private void agregarBytes(byte[] bytes) {
+        asegurar(bytes.length);
+        System.arraycopy(bytes, 0, buffer, largo, bytes.length);
+        largo += bytes.length;
+    }
+
+    // Codifica a UTF-8 directo en el buffer, sin String.getBytes
+    private void agregarTexto(String texto) {
+        asegurar(texto.length() * 3);
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (c < 0x80) {
+                buffer[largo++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[largo++] = (byte) (0xC0 | (c >> 6));
+                buffer[largo++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < texto.length()
+                    && Character.isLowSurrogate(texto.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, texto.charAt(++i));
+                buffer[largo++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[largo++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[largo++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[largo++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                buffer[largo++] = '?';
+            } else {
+                buffer[largo++] = (byte) (0xE0 | (c >> 12));
+                buffer[largo++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[largo++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    private void agregarNumero(long valor) {
+        asegurar(20);
+        if (valor < 0) {
+            buffer[largo++] = '-';
+            valor = -valor;
+        }
+        int inicio = largo;
+        do {
+            buffer[largo++] = (byte) ('0' + valor % 10);
+            valor /= 10;
+        } while (valor > 0);
+        for (int i = inicio, j = largo - 1; i < j; i++, j--) {
+            byte tmp = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = tmp;
+        }
+    }
+
+    private void asegurar(int extra) {
+        if (largo + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, largo + extra));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Histograma log-lineal de duraciones en nanos, al estilo HdrHistogram: cada potencia de dos
+// se parte en 32 cubetas iguales, así el error relativo queda por debajo del 3% desde
+// nanosegundos hasta horas con menos de 2000 contadores. Registrar es un incremento atómico
+// sin locks; leer mientras se registra da percentiles aproximados pero nunca inconsistentes.
+final class HistogramaLatencia {
+    private static final int BITS_SUB = 5;
+    private static final int SUB = 1 << BITS_SUB;
+    private static final int CUBETAS = (64 - BITS_SUB) * SUB;
+
+    private final AtomicLongArray cuentas = new AtomicLongArray(CUBETAS);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong suma = new AtomicLong();
+    private final AtomicLong maximo = new AtomicLong();
+
+    public void registrar(long nanos) {
+        long valor = Math.max(nanos, 0);
+        cuentas.incrementAndGet(cubeta(valor));
+        total.incrementAndGet();
+        suma.addAndGet(valor);
+        maximo.accumulateAndGet(valor, Math::max);
+    }
+
+    public long getTotal() { return total.get(); }
+    public long getSuma() { return suma.get(); }
+    public long getMaximo() { return maximo.get(); }
+
+    // Muestras hasta cada límite (ordenados, en nanos), acumuladas como los "le" de Prometheus;
+    // una cubeta cuenta para un límite si su tope no lo pasa. Devuelve el total de muestras
+    // leídas, que es el de la última cubeta aunque se siga registrando mientras tanto.
+    public long acumularHasta(long[] limites, long[] acumulados) {
+        long acumulado = 0;
+        int limite = 0;
+        for (int i = 0; i < CUBETAS; i++) {
+            while (limite < limites.length && tope(i) > limites[limite]) {
+                acumulados[limite++] = acumulado;
+            }
+            acumulado += cuentas.get(i);
+        }
+        while (limite < limites.length) {
+            acumulados[limite++] = acumulado;
+        }
+        return acumulado;
+    }
+
+    // Valor por debajo del cual cae la fracción pedida de las muestras (tope de su cubeta)
+    public long percentil(double fraccion) {
+        long cantidad = 0;
+        for (int i = 0; i < CUBETAS; i++) {
+            cantidad += cuentas.get(i);
+        }
+        if (cantidad == 0) {
+            return 0;
+        }
+        long objetivo = Math.max(1, (long) Math.ceil(fraccion * cantidad));
+        long acumulado = 0;
+        for (int i = 0; i < CUBETAS; i++) {
+            acumulado += cuentas.get(i);
+            if (acumulado >= objetivo) {
+                return Math.min(tope(i), maximo.get());
+            }
+        }
+        return maximo.get();
+    }
+
+    // Suma las muestras de otro histograma a este
+    public void sumar(HistogramaLatencia otro) {
+        for (int i = 0; i < CUBETAS; i++) {
+            long cuenta = otro.cuentas.get(i);
+            if (cuenta != 0) {
+                cuentas.addAndGet(i, cuenta);
+            }
+        }
+        total.addAndGet(otro.getTotal());
+        suma.addAndGet(otro.getSuma());
+        maximo.accumulateAndGet(otro.getMaximo(), Math::max);
+    }
+
+    static int cubeta(long valor) {
+        if (valor < SUB) {
+            return (int) valor;
+        }
+        int desplazamiento = 63 - Long.numberOfLeadingZeros(valor) - BITS_SUB;
+        return (desplazamiento + 1) * SUB + (int) (valor >>> desplazamiento) - SUB;
+    }
+
+    static long tope(int cubeta) {
+        if (cubeta < SUB) {
+            return cubeta;
+        }
+        int desplazamiento = cubeta / SUB - 1;
+        long mantisa = cubeta % SUB + SUB;
+        return ((mantisa + 1) << desplazamiento) - 1;
+    }
+}
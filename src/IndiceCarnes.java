@@ -0,0 +1,127 @@
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Índice de las piezas por tipo × estado, mantenido en cada cambio de estado, robo o
+// condimento, para que "un chorizo listo" o "cuántas quemadas" no recorran toda la parrilla.
+// Las piezas robadas salen de los conjuntos pero siguen contando para su estado.
+class IndiceCarnes {
+    private static final Comparator<PiezaCarne> POR_ID = Comparator.comparingInt(PiezaCarne::getId);
+    private static final int FRANJAS = 64;
+
+    // Piezas de un tipo en un estado
+    private static final class Celda {
+        final ConcurrentSkipListSet<PiezaCarne> presentes = new ConcurrentSkipListSet<>(POR_ID);
+        final ConcurrentSkipListSet<PiezaCarne> sinCondimentar = new ConcurrentSkipListSet<>(POR_ID);
+        final LongAdder total = new LongAdder();
+    }
+
+    private final Map<TipoCarne, EnumMap<EstadoCarne, Celda>> celdas = new EnumMap<>(TipoCarne.class);
+    // Serializa la actualización de cada pieza: dos cambios seguidos de la misma pieza no
+    // pueden dejarla en dos celdas. Rayado por id como las zonas de la parrilla.
+    private final ReentrantLock[] franjas = new ReentrantLock[FRANJAS];
+    // Sube con cada pieza que entra o cambia de celda; si no se movió, nada del índice cambió
+    private final AtomicLong version = new AtomicLong();
+
+    public IndiceCarnes() {
+        for (TipoCarne tipo : TipoCarne.values()) {
+            EnumMap<EstadoCarne, Celda> porEstado = new EnumMap<>(EstadoCarne.class);
+            for (EstadoCarne estado : EstadoCarne.values()) {
+                porEstado.put(estado, new Celda());
+            }
+            celdas.put(tipo, porEstado);
+        }
+        for (int i = 0; i < FRANJAS; i++) {
+            franjas[i] = new ReentrantLock();
+        }
+    }
+
+    public void agregar(PiezaCarne pieza) {
+        ReentrantLock franja = franjas[pieza.getId() & (FRANJAS - 1)];
+        franja.lock();
+        try {
+            long palabra = pieza.getPalabra();
+            anotar(pieza, palabra);
+            pieza.marcarIndexada(this, palabra);
+            version.incrementAndGet();
+        } finally {
+            franja.unlock();
+        }
+    }
+
+    // Lleva la pieza a la celda que corresponde a su estado actual. Se lee la palabra de
+    // estado una sola vez bajo el lock: aunque dos CAS de la pieza lleguen en otro orden,
+    // la última actualización siempre deja la pieza donde corresponde.
+    void actualizar(PiezaCarne pieza) {
+        ReentrantLock franja = franjas[pieza.getId() & (FRANJAS - 1)];
+        franja.lock();
+        try {
+            long palabra = pieza.getPalabra() & PiezaCarne.MASCARA_INDICE;
+            long anterior = pieza.getPalabraIndexada();
+            if (palabra == anterior) {
+                return;
+            }
+            Celda celdaAnterior = celda(pieza.getTipo(), PiezaCarne.estadoDe(anterior));
+            celdaAnterior.presentes.remove(pieza);
+            celdaAnterior.sinCondimentar.remove(pieza);
+            celdaAnterior.total.decrement();
+            anotar(pieza, palabra);
+            pieza.marcarIndexada(this, palabra);
+            version.incrementAndGet();
+        } finally {
+            franja.unlock();
+        }
+    }
+
+    private void anotar(PiezaCarne pieza, long palabra) {
+        Celda celda = celda(pieza.getTipo(), PiezaCarne.estadoDe(palabra));
+        celda.total.increment();
+        if (!PiezaCarne.robadaDe(palabra)) {
+            celda.presentes.add(pieza);
+            if (!PiezaCarne.condimentadaDe(palabra)) {
+                celda.sinCondimentar.add(pieza);
+            }
+        }
+    }
+
+    public long getVersion() { return version.get(); }
+
+    // Alguna pieza sin robar de ese tipo y estado, o null
+    public PiezaCarne buscar(TipoCarne tipo, EstadoCarne estado) {
+        return primera(celda(tipo, estado).presentes);
+    }
+
+    // Alguna pieza sin robar ni condimentar de ese tipo y estado, o null
+    public PiezaCarne buscarSinCondimentar(TipoCarne tipo, EstadoCarne estado) {
+        return primera(celda(tipo, estado).sinCondimentar);
+    }
+
+    // Piezas en ese estado, robadas incluidas
+    public long contar(EstadoCarne estado) {
+        long suma = 0;
+        for (EnumMap<EstadoCarne, Celda> porEstado : celdas.values()) {
+            suma += porEstado.get(estado).total.sum();
+        }
+        return suma;
+    }
+
+    public long contar(TipoCarne tipo, EstadoCarne estado) {
+        return celda(tipo, estado).total.sum();
+    }
+
+    private Celda celda(TipoCarne tipo, EstadoCarne estado) {
+        return celdas.get(tipo).get(estado);
+    }
+
+    // first() tira excepción si otro hilo vació el conjunto entre medio; el iterador no
+    private static PiezaCarne primera(ConcurrentSkipListSet<PiezaCarne> piezas) {
+        for (PiezaCarne pieza : piezas) {
+            return pieza;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,110 @@
+import java.util.Collections;
+import java.util.List;
+
+// Foto inmutable de una parrilla (ver Parrilla.instantanea): piezas, conteos por estado,
+// contadores, carbón, temperatura y recursos. Cada pieza sale de una sola lectura de su
+// palabra de estado y los conteos se calculan de esas mismas lecturas, así una pieza que
+// cambia de estado mientras se saca la foto cuenta una vez y en un solo estado. Se puede
+// pasar entre hilos y leer las veces que haga falta sin tocar la parrilla.
+final class InstantaneaParrilla {
+    private static final EstadoCarne[] ESTADOS = EstadoCarne.values();
+    private static final Metrica[] METRICAS = Metrica.values();
+
+    // Una pieza como estaba al sacar la foto
+    static final class FotoPieza {
+        private final int id;
+        private final String nombre;
+        private final TipoCarne tipo;
+        private final EstadoCarne estado;
+        private final boolean robada;
+        private final boolean condimentada;
+        private final int zona;
+
+        FotoPieza(PiezaCarne pieza) {
+            long palabra = pieza.getPalabra();
+            this.id = pieza.getId();
+            this.nombre = pieza.getNombre();
+            this.tipo = pieza.getTipo();
+            this.estado = PiezaCarne.estadoDe(palabra);
+            this.robada = PiezaCarne.robadaDe(palabra);
+            this.condimentada = PiezaCarne.condimentadaDe(palabra);
+            this.zona = pieza.getZona();
+        }
+
+        public int getId() { return id; }
+        public String getNombre() { return nombre; }
+        public TipoCarne getTipo() { return tipo; }
+        public EstadoCarne getEstado() { return estado; }
+        public boolean isRobada() { return robada; }
+        public boolean isCondimentada() { return condimentada; }
+        public int getZona() { return zona; }
+    }
+
+    // Lo que solo cambia cuando cambia alguna pieza; se comparte entre fotos seguidas
+    static final class Piezas {
+        final long version;
+        final int versionDisposicion;
+        final List<FotoPieza> fotos;
+        final long[] porEstado = new long[ESTADOS.length];
+
+        Piezas(long version, int versionDisposicion, List<FotoPieza> fotos) {
+            this.version = version;
+            this.versionDisposicion = versionDisposicion;
+            this.fotos = Collections.unmodifiableList(fotos);
+            for (FotoPieza foto : fotos) {
+                porEstado[foto.getEstado().ordinal()]++;
+            }
+        }
+    }
+
+    private final Piezas piezas;
+    private final long tomadaEnMillis;
+    private final VistaParrilla vista;
+    private final long[] metricas;
+    private final int cervezas;
+    private final int pinzas;
+    private final int condimentos;
+    private final int crudasPendientes;
+
+    InstantaneaParrilla(Piezas piezas, long tomadaEnMillis, VistaParrilla vista, long[] metricas, int cervezas,
+                        int pinzas, int condimentos, int crudasPendientes) {
+        this.piezas = piezas;
+        this.tomadaEnMillis = tomadaEnMillis;
+        this.vista = vista;
+        this.metricas = metricas;
+        this.cervezas = cervezas;
+        this.pinzas = pinzas;
+        this.condimentos = condimentos;
+        this.crudasPendientes = crudasPendientes;
+    }
+
+    // Sube con cada cambio de estado, robo o condimento de una pieza; igual versión, mismas piezas
+    public long getVersion() { return piezas.version; }
+    public long getTomadaEnMillis() { return tomadaEnMillis; }
+
+    public List<FotoPieza> getPiezas() { return piezas.fotos; }
+    public int getCantidadPiezas() { return piezas.fotos.size(); }
+    public long contar(EstadoCarne estado) { return piezas.porEstado[estado.ordinal()]; }
+
+    public long valor(Metrica metrica) { return metricas[metrica.ordinal()]; }
+
+    public int getNivelCarbon() { return vista.getNivelCarbon(); }
+    public int getTemperatura() { return vista.getTemperatura(); }
+    public int getCantidadZonas() { return vista.getCantidadZonas(); }
+    public int getPiezasEnZona(int zona) { return vista.getPiezasEnZona(zona); }
+
+    public int getCervezasDisponibles() { return cervezas; }
+    public int getPinzasDisponibles() { return pinzas; }
+    public int getCondimentosDisponibles() { return condimentos; }
+    public int getCrudasPendientes() { return crudasPendientes; }
+
+    Piezas getPiezasCompartidas() { return piezas; }
+
+    static long[] leerMetricas(MetricasAsado metricas) {
+        long[] valores = new long[METRICAS.length];
+        for (Metrica metrica : METRICAS) {
+            valores[metrica.ordinal()] = metricas.valor(metrica);
+        }
+        return valores;
+    }
+}
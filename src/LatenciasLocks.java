@@ -0,0 +1,85 @@
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// Espera (pedido → lock tomado) y retención (lock tomado → liberado) de las zonas de la
+// parrilla, un histograma de cada una por rol. Muestra quién hace cola y quién la provoca.
+// Los pedidos que se rinden por timeout se cuentan aparte: un rol con muchos timeouts y
+// esperas exitosas cortas está siendo postergado (inanición), no atendido rápido.
+class LatenciasLocks {
+    private final Map<Rol, HistogramaLatencia> esperas = new EnumMap<>(Rol.class);
+    private final Map<Rol, HistogramaLatencia> retenciones = new EnumMap<>(Rol.class);
+    private final Map<Rol, LongAdder> timeouts = new EnumMap<>(Rol.class);
+
+    public LatenciasLocks() {
+        for (Rol rol : Rol.values()) {
+            esperas.put(rol, new HistogramaLatencia());
+            retenciones.put(rol, new HistogramaLatencia());
+            timeouts.put(rol, new LongAdder());
+        }
+    }
+
+    public void registrarEspera(Rol rol, long nanos) { esperas.get(rol).registrar(nanos); }
+    public void registrarRetencion(Rol rol, long nanos) { retenciones.get(rol).registrar(nanos); }
+    public void registrarTimeout(Rol rol) { timeouts.get(rol).increment(); }
+    public HistogramaLatencia getEspera(Rol rol) { return esperas.get(rol); }
+    public HistogramaLatencia getRetencion(Rol rol) { return retenciones.get(rol); }
+    public long getTimeouts(Rol rol) { return timeouts.get(rol).sum(); }
+
+    // Fracción de los pedidos del rol que se rindieron sin conseguir la zona
+    public double tasaTimeouts(Rol rol) {
+        long fallidos = getTimeouts(rol);
+        long pedidos = fallidos + esperas.get(rol).getTotal();
+        return pedidos == 0 ? 0 : (double) fallidos / pedidos;
+    }
+
+    // Suma las latencias de varias parrillas (para el resumen del quincho)
+    public void sumar(LatenciasLocks otras) {
+        for (Rol rol : Rol.values()) {
+            esperas.get(rol).sumar(otras.esperas.get(rol));
+            retenciones.get(rol).sumar(otras.retenciones.get(rol));
+            timeouts.get(rol).add(otras.getTimeouts(rol));
+        }
+    }
+
+    // Una línea por rol que usó la parrilla, para el resumen final
+    public List<String> resumen() {
+        List<String> lineas = new ArrayList<>();
+        for (Rol rol : Rol.values()) {
+            HistogramaLatencia espera = esperas.get(rol);
+            if (espera.getTotal() > 0 || getTimeouts(rol) > 0) {
+                lineas.add("Latencias de " + rol + " (" + espera.getTotal() + " accesos, " + getTimeouts(rol)
+                        + " timeouts = " + String.format(Locale.ROOT, "%.1f%%", tasaTimeouts(rol) * 100)
+                        + "): espera " + percentiles(espera) + " | retención " + percentiles(retenciones.get(rol)));
+            }
+        }
+        return lineas;
+    }
+
+    // p99 de espera y retención por rol en una línea, para el progreso en vivo
+    public String resumenCorto() {
+        StringBuilder linea = new StringBuilder();
+        for (Rol rol : Rol.values()) {
+            HistogramaLatencia espera = esperas.get(rol);
+            if (espera.getTotal() > 0 || getTimeouts(rol) > 0) {
+                linea.append(linea.length() == 0 ? "" : " | ").append(rol).append(" espera p99 ")
+                        .append(ms(espera.percentil(0.99))).append(" retención p99 ")
+                        .append(ms(retenciones.get(rol).percentil(0.99))).append(" timeouts ")
+                        .append(String.format(Locale.ROOT, "%.1f%%", tasaTimeouts(rol) * 100));
+            }
+        }
+        return linea.toString();
+    }
+
+    private static String percentiles(HistogramaLatencia histograma) {
+        return "p50 " + ms(histograma.percentil(0.50)) + ", p99 " + ms(histograma.percentil(0.99))
+                + ", p999 " + ms(histograma.percentil(0.999)) + ", máx " + ms(histograma.getMaximo());
+    }
+
+    private static String ms(long nanos) {
+        return String.format(Locale.ROOT, "%.1fms", nanos / 1e6);
+    }
+}
@@ -0,0 +1,187 @@
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Lee un diario binario escrito por DiarioEventos como un cursor: cada llamada a siguiente()
+// avanza un registro sobre el archivo mapeado, sin crear objetos por evento.
+// Uso: java LectorDiario <archivo> [--eventos]
+class LectorDiario implements AutoCloseable {
+    private static final TipoEvento[] TIPOS = TipoEvento.values();
+
+    private final FileChannel canal;
+    private final long registros;
+    // El diario no se cerró (cabecera en 0) y los registros se contaron recorriendo el archivo
+    private final boolean recuperado;
+    private final Map<Integer, String> actores = new HashMap<>();
+    private final Map<Integer, String> piezas = new HashMap<>();
+
+    private MappedByteBuffer segmento;
+    private long actual = -1;
+    private int pos;
+
+    public LectorDiario(Path ruta) throws IOException {
+        this.canal = FileChannel.open(ruta, StandardOpenOption.READ);
+        MappedByteBuffer cabecera = canal.map(FileChannel.MapMode.READ_ONLY, 0, DiarioEventos.TAMANIO_CABECERA);
+        cabecera.order(ByteOrder.LITTLE_ENDIAN);
+        byte[] magia = new byte[DiarioEventos.MAGIA.length];
+        cabecera.get(magia);
+        if (!Arrays.equals(magia, DiarioEventos.MAGIA)) {
+            canal.close();
+            throw new IOException("No es un diario del asado: " + ruta);
+        }
+        int version = cabecera.getInt();
+        int tamanioRegistro = cabecera.getInt();
+        if (version != DiarioEventos.VERSION || tamanioRegistro != DiarioEventos.TAMANIO_REGISTRO) {
+            canal.close();
+            throw new IOException("Versión de diario no soportada: " + version);
+        }
+        long contados = cabecera.getLong();
+        this.recuperado = contados == 0 && canal.size() > DiarioEventos.TAMANIO_CABECERA;
+        this.registros = recuperado ? contarEscritos() : contados;
+        leerNombres(DiarioEventos.rutaNombres(ruta));
+    }
+
+    // Registros hasta el primero con marca 0: el archivo quedó con segmentos enteros y lo no
+    // escrito está en cero. La marca se escribe última, así que un registro con marca está completo
+    private long contarEscritos() throws IOException {
+        long capacidad = (canal.size() - DiarioEventos.TAMANIO_CABECERA) / DiarioEventos.TAMANIO_REGISTRO;
+        long contados = 0;
+        while (contados < capacidad) {
+            long inicio = DiarioEventos.TAMANIO_CABECERA + contados * DiarioEventos.TAMANIO_REGISTRO;
+            long largo = Math.min(DiarioEventos.BYTES_POR_SEGMENTO, (capacidad - contados) * DiarioEventos.TAMANIO_REGISTRO);
+            MappedByteBuffer tramo = canal.map(FileChannel.MapMode.READ_ONLY, inicio, largo);
+            tramo.order(ByteOrder.LITTLE_ENDIAN);
+            for (int pos = 0; pos < largo; pos += DiarioEventos.TAMANIO_REGISTRO) {
+                if (tramo.getLong(pos) == 0) {
+                    return contados;
+                }
+                contados++;
+            }
+        }
+        return contados;
+    }
+
+    private void leerNombres(Path ruta) throws IOException {
+        if (!Files.exists(ruta)) {
+            return;
+        }
+        for (String linea : Files.readAllLines(ruta, StandardCharsets.UTF_8)) {
+            String[] partes = linea.split(" ", 3);
+            if (partes.length < 3) {
+                continue;
+            }
+            Map<Integer, String> destino = partes[0].equals("A") ? actores : piezas;
+            destino.put(Integer.parseInt(partes[1]), partes[2]);
+        }
+    }
+
+    // Avanza al siguiente registro; false cuando no quedan
+    public boolean siguiente() throws IOException {
+        if (actual + 1 >= registros) {
+            return false;
+        }
+        actual++;
+        int registroEnSegmento = (int) (actual % DiarioEventos.REGISTROS_POR_SEGMENTO);
+        if (registroEnSegmento == 0) {
+            long indice = actual / DiarioEventos.REGISTROS_POR_SEGMENTO;
+            long inicio = DiarioEventos.TAMANIO_CABECERA + indice * DiarioEventos.BYTES_POR_SEGMENTO;
+            long largo = Math.min(DiarioEventos.BYTES_POR_SEGMENTO, (registros - actual) * DiarioEventos.TAMANIO_REGISTRO);
+            segmento = canal.map(FileChannel.MapMode.READ_ONLY, inicio, largo);
+            segmento.order(ByteOrder.LITTLE_ENDIAN);
+        }
+        pos = registroEnSegmento * DiarioEventos.TAMANIO_REGISTRO;
+        return true;
+    }
+
+    public long getRegistros() { return registros; }
+    public boolean isRecuperado() { return recuperado; }
+    public long getMarcaMillis() { return segmento.getLong(pos); }
+    public int getIdActor() { return segmento.getInt(pos + 8); }
+    public TipoEvento getTipo() { return TIPOS[segmento.getShort(pos + 12)]; }
+    public int getCodigoEvento() { return segmento.getShort(pos + 12); }
+    public int getIdPieza() { return segmento.getInt(pos + 16); }
+    public long getValor() { return segmento.getLong(pos + 24); }
+
+    public String nombreActor(int id) { return actores.getOrDefault(id, "actor#" + id); }
+    public String nombrePieza(int id) { return id < 0 ? null : piezas.getOrDefault(id, "pieza#" + id); }
+
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Uso: java LectorDiario <archivo> [--eventos]");
+            System.exit(1);
+        }
+        boolean mostrarEventos = args.length > 1 && args[1].equals("--eventos");
+        long[] porTipo = new long[TIPOS.length];
+        Map<Integer, long[]> porActor = new HashMap<>();
+        long primera = Long.MAX_VALUE;
+        long ultima = Long.MIN_VALUE;
+
+        long inicio = System.nanoTime();
+        try (LectorDiario lector = new LectorDiario(Paths.get(args[0]))) {
+            while (lector.siguiente()) {
+                int codigo = lector.getCodigoEvento();
+                long marca = lector.getMarcaMillis();
+                porTipo[codigo]++;
+                porActor.computeIfAbsent(lector.getIdActor(), k -> new long[1])[0]++;
+                primera = Math.min(primera, marca);
+                ultima = Math.max(ultima, marca);
+                if (mostrarEventos) {
+                    imprimirEvento(lector, TIPOS[codigo]);
+                }
+            }
+            double segundos = (System.nanoTime() - inicio) / 1e9;
+
+            System.out.println("=== DIARIO " + args[0] + " ===");
+            if (lector.isRecuperado()) {
+                System.out.println("El diario no se cerró: registros recuperados hasta el primero vacío");
+            }
+            System.out.printf("%d registros leídos en %.3f s (%.0f registros/s)%n",
+                    lector.getRegistros(), segundos, lector.getRegistros() / Math.max(segundos, 1e-9));
+            if (lector.getRegistros() > 0) {
+                System.out.printf("Período cubierto: %.1f s%n", (ultima - primera) / 1000.0);
+            }
+            System.out.println("\nPor evento:");
+            for (TipoEvento tipo : TIPOS) {
+                if (porTipo[tipo.ordinal()] > 0) {
+                    System.out.printf("%10d  %s%n", porTipo[tipo.ordinal()], tipo);
+                }
+            }
+            System.out.println("\nPor actor:");
+            List<Map.Entry<Integer, long[]>> ordenados = new ArrayList<>(porActor.entrySet());
+            ordenados.sort((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]));
+            for (Map.Entry<Integer, long[]> entry : ordenados) {
+                System.out.printf("%10d  %s%n", entry.getValue()[0], lector.nombreActor(entry.getKey()));
+            }
+        }
+    }
+
+    private static void imprimirEvento(LectorDiario lector, TipoEvento tipo) {
+        StringBuilder linea = new StringBuilder();
+        linea.append(lector.getMarcaMillis()).append(' ')
+                .append(lector.nombreActor(lector.getIdActor())).append(' ')
+                .append(tipo);
+        String pieza = lector.nombrePieza(lector.getIdPieza());
+        if (pieza != null) {
+            linea.append(' ').append(pieza);
+        } else if (lector.getValor() != BitacoraEventos.SIN_VALOR) {
+            linea.append(' ').append(lector.getValor());
+        }
+        System.out.println(linea);
+    }
+}
@@ -0,0 +1,166 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Corre muchos asados independientes con reloj virtual en un ForkJoinPool y resume cada
+// resultado del resumen final (listas, quemadas, robos...) como distribución: media, desvío
+// y percentiles. Cada corrida tiene su propio quincho, reloj y actores, así que no comparten
+// nada y el lote escala con los núcleos. Los argumentos que no son del lote van al asado.
+// Uso: java LoteMonteCarlo [--corridas=1000] [--paralelismo=<núcleos>] [opciones del asado]
+public class LoteMonteCarlo {
+    private static final String[] POR_DEFECTO = {"--reloj=virtual", "--log=ninguno"};
+
+    // Lo que se mide de cada corrida
+    enum Indicador {
+        LISTAS("% listas"),
+        QUEMADAS("% quemadas"),
+        ROBADAS("% robadas"),
+        INTERVENCIONES("intervenciones"),
+        CONDIMENTADAS("condimentadas"),
+        CONFLICTOS("conflictos"),
+        EVENTOS("eventos");
+
+        final String etiqueta;
+
+        Indicador(String etiqueta) {
+            this.etiqueta = etiqueta;
+        }
+    }
+
+    private static final Indicador[] INDICADORES = Indicador.values();
+
+    public static void main(String[] args) {
+        int corridas = 1000;
+        int paralelismo = Runtime.getRuntime().availableProcessors();
+        List<String> argumentos = new ArrayList<>(Arrays.asList(POR_DEFECTO));
+        for (String arg : args) {
+            if (arg.startsWith("--corridas=")) {
+                corridas = Integer.parseInt(arg.substring("--corridas=".length()));
+            } else if (arg.startsWith("--paralelismo=")) {
+                paralelismo = Integer.parseInt(arg.substring("--paralelismo=".length()));
+            } else {
+                argumentos.add(arg);
+            }
+        }
+        if (corridas < 1 || paralelismo < 1) {
+            throw new IllegalArgumentException("--corridas y --paralelismo necesitan valores positivos");
+        }
+        ConfiguracionAsado config = ConfiguracionAsado.desdeArgumentos(argumentos.toArray(new String[0]));
+        config.validarCorridasEnParalelo("lote");
+
+        // Una semilla por corrida, sacadas en orden de la maestra: el lote se repite igual
+        // con la misma --semilla sin importar en qué orden el pool corra las corridas
+        SplittableRandom maestra = new SplittableRandom(config.getSemilla());
+        long[] semillas = new long[corridas];
+        for (int i = 0; i < corridas; i++) {
+            semillas[i] = maestra.nextLong();
+        }
+
+        double[][] resultados = new double[INDICADORES.length][corridas];
+        ForkJoinPool pool = new ForkJoinPool(paralelismo);
+        long inicio = System.nanoTime();
+        try {
+            pool.invoke(new Lote(config, semillas, resultados, 0, corridas));
+        } finally {
+            pool.shutdown();
+        }
+        long realMs = (System.nanoTime() - inicio) / 1_000_000;
+
+        System.out.printf("%-16s %10s %10s %10s %10s %10s %10s %10s%n",
+                "indicador", "media", "desvío", "mín", "p5", "p50", "p95", "máx");
+        for (Indicador indicador : INDICADORES) {
+            double[] valores = resultados[indicador.ordinal()];
+            Arrays.sort(valores);
+            double media = media(valores);
+            System.out.printf("%-16s %10.2f %10.2f %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+                    indicador.etiqueta, media, desvio(valores, media), valores[0], percentil(valores, 5),
+                    percentil(valores, 50), percentil(valores, 95), valores[valores.length - 1]);
+        }
+        System.out.printf("%d corridas de %d s en %d ms (%.1f corridas/s, paralelismo %d, semilla %d)%n",
+                corridas, config.getDuracionSegundos(), realMs, corridas * 1000.0 / Math.max(realMs, 1), paralelismo,
+                config.getSemilla());
+    }
+
+    // Parte el rango de corridas a la mitad hasta llegar a una sola. Cada corrida anota en su
+    // propia columna de resultados, así que no hay nada que combinar al volver. El hilo del
+    // pool queda bloqueado mientras la corrida avanza en los hilos de sus actores; no se usa
+    // managedBlock a propósito, para que haya tantas corridas en curso como paralelismo.
+    @SuppressWarnings("serial") // Las tareas de ForkJoin heredan Serializable; estas nunca se serializan
+    private static final class Lote extends RecursiveAction {
+        private final ConfiguracionAsado config;
+        private final long[] semillas;
+        private final double[][] resultados;
+        private final int desde;
+        private final int hasta;
+
+        Lote(ConfiguracionAsado config, long[] semillas, double[][] resultados, int desde, int hasta) {
+            this.config = config;
+            this.semillas = semillas;
+            this.resultados = resultados;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde == 1) {
+                correr(desde);
+                return;
+            }
+            int medio = (desde + hasta) >>> 1;
+            invokeAll(new Lote(config, semillas, resultados, desde, medio),
+                    new Lote(config, semillas, resultados, medio, hasta));
+        }
+
+        private void correr(int corrida) {
+            ConfiguracionAsado corridaConfig = config.conSemilla(semillas[corrida]);
+            Quincho quincho = new Quincho(corridaConfig, corridaConfig.crearReloj());
+            try {
+                SimuladorAsadoFamiliar.simular(corridaConfig, quincho);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Corrida " + corrida + " interrumpida", e);
+            }
+            double piezas = quincho.getCantidadPiezas();
+            anotar(Indicador.LISTAS, corrida, quincho.contar(EstadoCarne.LISTA) * 100.0 / piezas);
+            anotar(Indicador.QUEMADAS, corrida, quincho.contar(EstadoCarne.QUEMADA) * 100.0 / piezas);
+            anotar(Indicador.ROBADAS, corrida, quincho.valor(Metrica.ROBOS_EXITOSOS) * 100.0 / piezas);
+            anotar(Indicador.INTERVENCIONES, corrida, quincho.valor(Metrica.INTERVENCIONES_TIOS));
+            anotar(Indicador.CONDIMENTADAS, corrida, quincho.valor(Metrica.CONDIMENTADAS_ABUELA));
+            anotar(Indicador.CONFLICTOS, corrida, quincho.valor(Metrica.CONFLICTOS));
+            anotar(Indicador.EVENTOS, corrida, quincho.getEventosRegistrados());
+        }
+
+        private void anotar(Indicador indicador, int corrida, double valor) {
+            resultados[indicador.ordinal()][corrida] = valor;
+        }
+    }
+
+    // Percentil por rango más cercano sobre valores ya ordenados
+    private static double percentil(double[] ordenados, int percentil) {
+        int rango = (int) Math.ceil(percentil / 100.0 * ordenados.length);
+        return ordenados[Math.max(rango - 1, 0)];
+    }
+
+    private static double media(double[] valores) {
+        double suma = 0;
+        for (double v : valores) {
+            suma += v;
+        }
+        return suma / valores.length;
+    }
+
+    private static double desvio(double[] valores, double media) {
+        if (valores.length < 2) {
+            return 0;
+        }
+        double suma = 0;
+        for (double v : valores) {
+            suma += (v - media) * (v - media);
+        }
+        return Math.sqrt(suma / (valores.length - 1));
+    }
+}
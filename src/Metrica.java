@@ -0,0 +1,13 @@
+// Contadores del asado que se incrementan desde muchos actores a la vez
+enum Metrica {
+    ROBOS_EXITOSOS,
+    INTERVENCIONES_TIOS,
+    CONDIMENTADAS_ABUELA,
+    CONFLICTOS,
+    ACCESOS_EXITOSOS,
+    EVENTOS_REGISTRADOS,
+    PIEZAS_AL_FUEGO,
+    // Piezas crudas que un asador de esta parrilla tomó de otra, y las que otros tomaron de esta
+    TRABAJO_ROBADO,
+    TRABAJO_CEDIDO
+}
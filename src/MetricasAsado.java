@@ -0,0 +1,58 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+// Registro de métricas con contadores rayados al estilo LongAdder: cada hilo suma en la
+// franja que le toca por su id con un getAndAdd atómico (nunca se pierde un incremento) y
+// leer una métrica suma todas las franjas. Cada franja guarda todas las métricas juntas y
+// ocupa líneas de caché propias, así dos hilos en franjas distintas no se pisan (false sharing).
+final class MetricasAsado {
+    private static final VarHandle CELDAS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final Metrica[] METRICAS = Metrica.values();
+    // 128 bytes: dos líneas de 64, porque el prefetcher de x86 trae las líneas de a pares
+    private static final int LONGS_POR_LINEA = 16;
+    // Franja = métricas redondeadas a líneas enteras, más una línea de relleno al principio
+    private static final int PASO_FRANJA =
+            (METRICAS.length + LONGS_POR_LINEA - 1) / LONGS_POR_LINEA * LONGS_POR_LINEA;
+
+    private final long[] celdas;
+    private final int mascaraFranjas;
+
+    public MetricasAsado() {
+        this(Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    MetricasAsado(int franjasMinimas) {
+        int franjas = Integer.highestOneBit(Math.max(franjasMinimas, 1) * 2 - 1);
+        this.mascaraFranjas = franjas - 1;
+        this.celdas = new long[LONGS_POR_LINEA + franjas * PASO_FRANJA];
+    }
+
+    public void incrementar(Metrica metrica) {
+        sumar(metrica, 1);
+    }
+
+    public void sumar(Metrica metrica, long delta) {
+        CELDAS.getAndAdd(celdas, indice(franja(), metrica), delta);
+    }
+
+    // Suma de todas las franjas; no es una foto atómica si hay incrementos en curso
+    public long valor(Metrica metrica) {
+        long suma = 0;
+        for (int franja = 0; franja <= mascaraFranjas; franja++) {
+            suma += (long) CELDAS.getVolatile(celdas, indice(franja, metrica));
+        }
+        return suma;
+    }
+
+    public int getFranjas() { return mascaraFranjas + 1; }
+
+    private int franja() {
+        // Mezcla el id para que hilos creados seguidos caigan en franjas distintas
+        long id = Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L;
+        return (int) (id >>> 32) & mascaraFranjas;
+    }
+
+    private static int indice(int franja, Metrica metrica) {
+        return LONGS_POR_LINEA + franja * PASO_FRANJA + metrica.ordinal();
+    }
+}
@@ -0,0 +1,122 @@
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+// MBean de una parrilla: lee el estado en el momento en que jconsole lo pide, sin tomar
+// locks ni frenar a los actores. Con --jmx se registra uno por parrilla del quincho como
+// asado:type=Parrilla,name=parrilla-N y se da de baja al terminar el asado.
+class MonitorParrilla implements ParrillaMXBean {
+    private final Parrilla parrilla;
+
+    public MonitorParrilla(Parrilla parrilla) {
+        this.parrilla = parrilla;
+    }
+
+    // Registra las parrillas del quincho; devuelve los nombres para darlas de baja
+    public static List<ObjectName> registrar(Quincho quincho) {
+        MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+        List<ObjectName> nombres = new ArrayList<>();
+        try {
+            for (int i = 0; i < quincho.getCantidad(); i++) {
+                ObjectName nombre = new ObjectName("asado:type=Parrilla,name=parrilla-" + (i + 1));
+                servidor.registerMBean(new MonitorParrilla(quincho.getParrilla(i)), nombre);
+                nombres.add(nombre);
+            }
+        } catch (JMException e) {
+            desregistrar(nombres);
+            throw new IllegalStateException("No se pudo registrar el MBean de la parrilla", e);
+        }
+        return nombres;
+    }
+
+    public static void desregistrar(List<ObjectName> nombres) {
+        MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+        for (ObjectName nombre : nombres) {
+            try {
+                servidor.unregisterMBean(nombre);
+            } catch (JMException e) {
+                // Ya no estaba registrado
+            }
+        }
+    }
+
+    @Override
+    public boolean isAsadoActivo() { return parrilla.isAsadoActivo(); }
+
+    @Override
+    public int getNivelCarbon() { return parrilla.getNivelCarbon(); }
+
+    @Override
+    public int getTemperatura() { return parrilla.getTemperatura(); }
+
+    @Override
+    public int[] getPiezasPorZona() { return parrilla.mirar().getPiezasPorZona(); }
+
+    @Override
+    public String[] getTenedoresZonas() {
+        String[] tenedores = new String[parrilla.getCantidadZonas()];
+        for (int i = 0; i < tenedores.length; i++) {
+            String tenedor = parrilla.getZona(i).getTenedor();
+            tenedores[i] = tenedor == null ? "" : tenedor;
+        }
+        return tenedores;
+    }
+
+    @Override
+    public int[] getEsperandoPorZona() {
+        int[] esperando = new int[parrilla.getCantidadZonas()];
+        for (int i = 0; i < esperando.length; i++) {
+            esperando[i] = parrilla.getZona(i).getEsperando();
+        }
+        return esperando;
+    }
+
+    @Override
+    public int getEsperandoTotal() {
+        int total = 0;
+        for (int esperando : getEsperandoPorZona()) {
+            total += esperando;
+        }
+        return total;
+    }
+
+    @Override
+    public int getCervezasDisponibles() { return parrilla.getCervezasDisponibles(); }
+
+    @Override
+    public int getPinzasDisponibles() { return parrilla.getPinzasDisponibles(); }
+
+    @Override
+    public int getCondimentosDisponibles() { return parrilla.getCondimentosDisponibles(); }
+
+    @Override
+    public int getCrudasPendientes() { return parrilla.getCrudasPendientes(); }
+
+    @Override
+    public Map<String, Long> getPiezasPorEstado() {
+        InstantaneaParrilla foto = parrilla.instantanea();
+        Map<String, Long> porEstado = new LinkedHashMap<>();
+        for (EstadoCarne estado : EstadoCarne.values()) {
+            porEstado.put(estado.name(), foto.contar(estado));
+        }
+        return porEstado;
+    }
+
+    @Override
+    public Map<String, Long> getContadores() {
+        InstantaneaParrilla foto = parrilla.instantanea();
+        Map<String, Long> contadores = new LinkedHashMap<>();
+        for (Metrica metrica : Metrica.values()) {
+            contadores.put(metrica.name(), foto.valor(metrica));
+        }
+        return contadores;
+    }
+
+    @Override
+    public List<String> getLatencias() { return parrilla.getLatencias().resumen(); }
+}
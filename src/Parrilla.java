@@ -0,0 +1,558 @@
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.*;
+import java.util.function.IntSupplier;
+
+// Clase principal que maneja la parrilla y recursos compartidos
+class Parrilla {
+    // Locks y semáforos para sincronización: cada zona de la parrilla tiene su
+    // propia política de acceso, así un robo en una zona no frena al asador en otra
+    private final ZonaParrilla[] zonas;
+    private final int[] todasLasZonas;
+    private final int zonasCalientes;
+    private final Semaphore semCerveza;
+    private final Semaphore semPinzaBuena;
+    private final Semaphore semCondimentos;
+
+    // Estado de la parrilla; el índice por tipo × estado evita recorrer todas las piezas
+    private final IndiceCarnes indice = new IndiceCarnes();
+    private final Map<String, PiezaCarne> carnes = new ConcurrentHashMap<>();
+    // Carbón, temperatura y en qué zona está cada pieza cambian poco (el control de
+    // temperatura, un tío que mueve una pieza) y se miran seguido. Quien solo mira hace una
+    // lectura optimista del StampedLock y valida al final: no escribe nada compartido ni
+    // espera a nadie, y solo si hubo una escritura en el medio relee con el lock de lectura.
+    private final StampedLock disposicion = new StampedLock();
+    private int nivelCarbon = 100;
+    private int temperatura = 80;
+    private int versionDisposicion;
+
+    // Última foto sacada con instantanea(); la siguiente reusa sus piezas si nada cambió
+    private volatile InstantaneaParrilla ultimaInstantanea;
+    private volatile boolean asadoActivo = true;
+
+    // Piezas crudas esperando que un asador las ponga al fuego; las toma el asador de esta
+    // parrilla por adelante y los de otras parrillas, cuando se quedan sin trabajo, por atrás
+    private final Deque<PiezaCarne> porPonerAlFuego = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger crudasPendientes = new AtomicInteger();
+
+    // Una vez sellada, la cocción sigue sola por tiempo
+    private final ProgramadorCoccion coccion;
+    // Hilo del carbón; como el de la cocción, registra eventos hasta que se lo detiene
+    private final Thread controlTemperatura;
+
+    // Nombre en la bitácora: "la parrilla", o "la parrilla N" cuando el quincho tiene varias
+    private final String nombre;
+
+    // Contadores de estadísticas, rayados para que los actores no compitan al sumar
+    private final MetricasAsado metricas = new MetricasAsado();
+
+    // Espera y retención de las zonas por rol
+    private final LatenciasLocks latencias = new LatenciasLocks();
+
+    // Destinos de los eventos (consola síncrona o buffer asíncrono, y el diario binario);
+    // con varias parrillas son compartidos y los cierra el quincho
+    private final BitacoraEventos[] bitacoras;
+    private final boolean bitacorasPropias;
+
+    // Fuente de tiempo (real o virtual) compartida con los actores
+    private final Reloj reloj;
+
+    public Parrilla(ConfiguracionAsado config, Reloj reloj) {
+        this(config, reloj, new SplittableRandom(config.getSemilla()));
+    }
+
+    public Parrilla(ConfiguracionAsado config, Reloj reloj, SplittableRandom azar) {
+        this(config, reloj, config.crearBitacoras(), true, 0, 1, azar);
+    }
+
+    // Una de las parrillas del quincho: se queda con las piezas cuyo id cae en su turno
+    public Parrilla(ConfiguracionAsado config, Reloj reloj, BitacoraEventos[] bitacoras, int numero, int cantidad,
+                    SplittableRandom azar) {
+        this(config, reloj, bitacoras, false, numero, cantidad, azar);
+    }
+
+    private Parrilla(ConfiguracionAsado config, Reloj reloj, BitacoraEventos[] bitacoras, boolean bitacorasPropias,
+                     int numero, int cantidad, SplittableRandom azar) {
+        this.reloj = reloj;
+        this.bitacoras = bitacoras;
+        this.bitacorasPropias = bitacorasPropias;
+        this.nombre = cantidad == 1 ? "la parrilla" : "la parrilla " + (numero + 1);
+        this.semCerveza = new Semaphore(config.getCervezas());
+        this.semPinzaBuena = new Semaphore(config.getPinzas());
+        this.semCondimentos = new Semaphore(config.getCondimentos());
+        String deParrilla = cantidad == 1 ? "" : " de " + nombre;
+        int cantidadZonas = config.getZonas();
+        this.zonas = new ZonaParrilla[cantidadZonas];
+        this.todasLasZonas = new int[cantidadZonas];
+        // La primera mitad de las zonas queda sobre las brasas, el resto es zona fría
+        this.zonasCalientes = (cantidadZonas + 1) / 2;
+        SplittableRandom azarCoccion = azar.split();
+        SplittableRandom azarControl = azar.split();
+        // El azar de las políticas se separa después del resto, así una misma semilla sortea
+        // igual la cocción y la temperatura sea cual sea la política
+        for (int i = 0; i < cantidadZonas; i++) {
+            zonas[i] = new ZonaParrilla(i, i < zonasCalientes, deParrilla,
+                    config.getPolitica().crear(reloj, azar.split()));
+            todasLasZonas[i] = i;
+        }
+        inicializarCarnes(config.getPiezas(), numero, cantidad);
+        this.coccion = new ProgramadorCoccion(this, reloj, azarCoccion);
+        coccion.iniciar();
+        this.controlTemperatura = iniciarControlTemperatura(azarControl);
+    }
+
+    private void inicializarCarnes(int cantidad, int parrilla, int parrillas) {
+        List<Map.Entry<TipoCarne, String>> carnesIniciales = Arrays.asList(
+                new AbstractMap.SimpleEntry<>(TipoCarne.CHORIZO, "Chorizo"),
+                new AbstractMap.SimpleEntry<>(TipoCarne.CHORIZO, "Chorizo"),
+                new AbstractMap.SimpleEntry<>(TipoCarne.MORCILLA, "Morcilla"),
+                new AbstractMap.SimpleEntry<>(TipoCarne.MORCILLA, "Morcilla"),
+                new AbstractMap.SimpleEntry<>(TipoCarne.COSTILLA, "Costilla"),
+                new AbstractMap.SimpleEntry<>(TipoCarne.VACIO, "Vacio"),
+                new AbstractMap.SimpleEntry<>(TipoCarne.POLLO, "Pollo")
+        );
+
+        // Con más piezas se repite la misma mezcla: Chorizo1, Chorizo2, ..., Pollo1, Chorizo3, ...
+        Map<String, Integer> numeradas = new HashMap<>();
+        int siguienteZona = 0;
+        for (int id = 0; id < cantidad; id++) {
+            Map.Entry<TipoCarne, String> entry = carnesIniciales.get(id % carnesIniciales.size());
+            String nombre = entry.getValue() + numeradas.merge(entry.getValue(), 1, Integer::sum);
+            if (id % parrillas != parrilla) {
+                continue;
+            }
+            PiezaCarne pieza = new PiezaCarne(id, entry.getKey(), nombre, siguienteZona);
+            carnes.put(nombre, pieza);
+            zonas[siguienteZona].getPiezas().add(pieza);
+            indice.agregar(pieza);
+            porPonerAlFuego.add(pieza);
+            crudasPendientes.incrementAndGet();
+            siguienteZona = (siguienteZona + 1) % zonas.length;
+        }
+    }
+
+    private Thread iniciarControlTemperatura(SplittableRandom random) {
+        // Hilo que controla la temperatura y el carbón; el azar es solo suyo
+        Thread controlTemperatura = new Thread(reloj.participante(() -> {
+            while (asadoActivo) {
+                try {
+                    reloj.dormir(2000);
+                    // Solo este hilo escribe el carbón, así que leerlo antes del lock es seguro
+                    if (nivelCarbon > 0) {
+                        int consumo = random.nextInt(3) + 1;
+                        int carbon;
+                        long sello = disposicion.writeLock();
+                        try {
+                            carbon = nivelCarbon -= consumo;
+                            versionDisposicion++;
+                        } finally {
+                            disposicion.unlockWrite(sello);
+                        }
+                        if (carbon < 30) {
+                            logEvento("SISTEMA", TipoEvento.CARBON_BAJO, carbon);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }));
+        controlTemperatura.setDaemon(true);
+        controlTemperatura.start();
+        return controlTemperatura;
+    }
+
+    // Próxima pieza cruda para el asador de esta parrilla
+    public PiezaCarne tomarCruda() {
+        return contarTomada(porPonerAlFuego.pollFirst());
+    }
+
+    // Pieza cruda para un asador de otra parrilla que se quedó sin trabajo: sale del otro
+    // extremo de la cola, así no compite con el asador de esta parrilla por la misma
+    public PiezaCarne cederCruda() {
+        PiezaCarne pieza = contarTomada(porPonerAlFuego.pollLast());
+        if (pieza != null) {
+            metricas.incrementar(Metrica.TRABAJO_CEDIDO);
+        }
+        return pieza;
+    }
+
+    private PiezaCarne contarTomada(PiezaCarne pieza) {
+        if (pieza != null) {
+            crudasPendientes.decrementAndGet();
+        }
+        return pieza;
+    }
+
+    public int getCrudasPendientes() { return crudasPendientes.get(); }
+
+    // Pone a sellar una pieza de esta parrilla; desde ahí la cocción sigue por tiempo
+    public boolean ponerAlFuego(String asador, PiezaCarne pieza) {
+        if (!pieza.tryTransition(EstadoCarne.CRUDA, EstadoCarne.SELLANDO)) {
+            return false;
+        }
+        metricas.incrementar(Metrica.PIEZAS_AL_FUEGO);
+        logEvento(asador, TipoEvento.EMPIEZA_SELLAR, pieza);
+        coccion.agregarSellando(pieza, asador);
+        return true;
+    }
+
+    public void logEvento(String actor, TipoEvento tipo) {
+        registrarEvento(actor, tipo, null, null, BitacoraEventos.SIN_VALOR);
+    }
+
+    public void logEvento(String actor, TipoEvento tipo, PiezaCarne pieza) {
+        registrarEvento(actor, tipo, pieza, null, BitacoraEventos.SIN_VALOR);
+    }
+
+    public void logEvento(String actor, TipoEvento tipo, String texto) {
+        registrarEvento(actor, tipo, null, texto, BitacoraEventos.SIN_VALOR);
+    }
+
+    public void logEvento(String actor, TipoEvento tipo, long valor) {
+        registrarEvento(actor, tipo, null, null, valor);
+    }
+
+    private void registrarEvento(String actor, TipoEvento tipo, PiezaCarne pieza, String texto, long valor) {
+        metricas.incrementar(Metrica.EVENTOS_REGISTRADOS);
+        long marca = reloj.ahoraMillis();
+        for (BitacoraEventos bitacora : bitacoras) {
+            bitacora.registrar(marca, actor, tipo, pieza, texto, valor);
+        }
+    }
+
+    // Vacía las bitácoras (la asíncrona puede tener eventos en el buffer)
+    public void cerrarBitacora() {
+        if (!bitacorasPropias) {
+            return;
+        }
+        detenerHilos();
+        for (BitacoraEventos bitacora : bitacoras) {
+            bitacora.cerrar();
+        }
+    }
+
+    // Toma la parrilla entera (todas las zonas)
+    public boolean accederParrilla(String actor, Rol rol, long timeoutMs) {
+        return accederZonas(actor, rol, timeoutMs, todasLasZonas);
+    }
+
+    public void liberarParrilla(String actor) {
+        liberarZonas(actor, todasLasZonas);
+    }
+
+    public boolean accederZona(String actor, Rol rol, int zona, long timeoutMs) {
+        return accederZonas(actor, rol, timeoutMs, zona);
+    }
+
+    public void liberarZona(String actor, int zona) {
+        liberarZonas(actor, zona);
+    }
+
+    // Toma solo las zonas que toca la acción, siempre en orden de índice para no
+    // generar deadlocks; el timeout es para el conjunto completo
+    public boolean accederZonas(String actor, Rol rol, long timeoutMs, int... indices) {
+        int[] ordenadas = indices.clone();
+        Arrays.sort(ordenadas);
+        long pedidoNanos = reloj.ahoraNanos();
+        EventoAccesoParrilla evento = new EventoAccesoParrilla();
+        evento.begin();
+        long limite = reloj.ahoraMillis() + timeoutMs;
+        int tomadas = 0;
+        try {
+            for (int indice : ordenadas) {
+                ZonaParrilla zona = zonas[indice];
+                long restante = Math.max(0, limite - reloj.ahoraMillis());
+                zona.empezarEspera();
+                boolean tomada;
+                try {
+                    tomada = zona.getAcceso().adquirir(rol, restante);
+                } finally {
+                    zona.terminarEspera();
+                }
+                if (!tomada) {
+                    zona.registrarConflicto();
+                    break;
+                }
+                tomadas++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        long finEsperaNanos = reloj.ahoraNanos();
+        evento.end();
+        if (evento.shouldCommit()) {
+            evento.actor = actor;
+            evento.rol = rol.name();
+            evento.zonas = describirZonas(ordenadas);
+            evento.exito = tomadas == ordenadas.length;
+            evento.espera = finEsperaNanos - pedidoNanos;
+            evento.commit();
+        }
+
+        if (tomadas == ordenadas.length) {
+            latencias.registrarEspera(rol, finEsperaNanos - pedidoNanos);
+            zonas[ordenadas[0]].marcarTomada(rol, finEsperaNanos);
+            for (int indice : ordenadas) {
+                zonas[indice].registrarAcceso();
+                zonas[indice].setTenedor(actor);
+            }
+            metricas.incrementar(Metrica.ACCESOS_EXITOSOS);
+            logEvento(actor, TipoEvento.ACCEDE_PARRILLA, describirZonas(ordenadas));
+            return true;
+        }
+        for (int i = tomadas - 1; i >= 0; i--) {
+            zonas[ordenadas[i]].getAcceso().liberar();
+        }
+        if (!Thread.currentThread().isInterrupted()) {
+            latencias.registrarTimeout(rol);
+            logEvento(actor, TipoEvento.TIMEOUT_PARRILLA, describirZonas(ordenadas));
+            metricas.incrementar(Metrica.CONFLICTOS);
+        }
+        return false;
+    }
+
+    public void liberarZonas(String actor, int... indices) {
+        // La retención se anotó en la zona de menor índice del acceso
+        int primera = indices[0];
+        for (int indice : indices) {
+            primera = Math.min(primera, indice);
+        }
+        ZonaParrilla zonaPrimera = zonas[primera];
+        long retencion = reloj.ahoraNanos() - zonaPrimera.getTomadaEnNanos();
+        latencias.registrarRetencion(zonaPrimera.getRolTenedor(), retencion);
+        EventoLiberacionParrilla evento = new EventoLiberacionParrilla();
+        if (evento.shouldCommit()) {
+            evento.actor = actor;
+            evento.rol = zonaPrimera.getRolTenedor().name();
+            evento.zonas = describirZonas(indices);
+            evento.retencion = retencion;
+            evento.commit();
+        }
+        for (int indice : indices) {
+            zonas[indice].setTenedor(null);
+            zonas[indice].getAcceso().liberar();
+        }
+        logEvento(actor, TipoEvento.LIBERA_PARRILLA, describirZonas(indices));
+    }
+
+    // Pasa una pieza a otra zona; quien llama tiene que tener tomadas las dos zonas
+    public void moverPieza(PiezaCarne pieza, int destino) {
+        ZonaParrilla origen = zonas[pieza.getZona()];
+        if (!origen.getAcceso().isTomadaPorHiloActual() || !zonas[destino].getAcceso().isTomadaPorHiloActual()) {
+            throw new IllegalStateException("Para mover " + pieza.getNombre() + " hay que tomar ambas zonas");
+        }
+        long sello = disposicion.writeLock();
+        try {
+            origen.getPiezas().remove(pieza);
+            zonas[destino].getPiezas().add(pieza);
+            pieza.setZona(destino);
+            versionDisposicion++;
+        } finally {
+            disposicion.unlockWrite(sello);
+        }
+    }
+
+    // Carbón, temperatura y piezas por zona de un mismo momento: una pieza que se está
+    // moviendo nunca aparece en las dos zonas ni en ninguna
+    public VistaParrilla mirar() {
+        long sello = disposicion.tryOptimisticRead();
+        if (sello != 0) {
+            VistaParrilla vista = leerVista();
+            if (disposicion.validate(sello)) {
+                return vista;
+            }
+        }
+        sello = disposicion.readLock();
+        try {
+            return leerVista();
+        } finally {
+            disposicion.unlockRead(sello);
+        }
+    }
+
+    private VistaParrilla leerVista() {
+        int[] piezasPorZona = new int[zonas.length];
+        for (int i = 0; i < zonas.length; i++) {
+            piezasPorZona[i] = zonas[i].getPiezas().size();
+        }
+        return new VistaParrilla(versionDisposicion, nivelCarbon, temperatura, piezasPorZona);
+    }
+
+    // Foto inmutable de toda la parrilla para reportes, tableros y exportadores, sin tomar
+    // ningún lock de los actores. Las piezas se copian solo si alguna cambió desde la foto
+    // anterior (subió la versión del índice o de la disposición); si no, la foto nueva
+    // comparte la lista con la anterior y solo relee contadores, carbón y recursos. Si algo
+    // cambia mientras se copian las piezas se reintenta; después de tres intentos se acepta
+    // la copia, que igual cuenta cada pieza una sola vez y en un solo estado.
+    public InstantaneaParrilla instantanea() {
+        InstantaneaParrilla anterior = ultimaInstantanea;
+        InstantaneaParrilla.Piezas piezas = null;
+        VistaParrilla vista = null;
+        for (int intento = 1; piezas == null; intento++) {
+            long version = indice.getVersion();
+            vista = mirar();
+            if (anterior != null && anterior.getPiezasCompartidas().version == version
+                    && anterior.getPiezasCompartidas().versionDisposicion == vista.getVersion()) {
+                piezas = anterior.getPiezasCompartidas();
+                break;
+            }
+            List<InstantaneaParrilla.FotoPieza> fotos = new ArrayList<>(carnes.size());
+            for (PiezaCarne pieza : carnes.values()) {
+                fotos.add(new InstantaneaParrilla.FotoPieza(pieza));
+            }
+            boolean estable = indice.getVersion() == version && leerOptimista(() -> versionDisposicion) == vista.getVersion();
+            if (estable || intento == 3) {
+                fotos.sort(Comparator.comparingInt(InstantaneaParrilla.FotoPieza::getId));
+                piezas = new InstantaneaParrilla.Piezas(version, vista.getVersion(), fotos);
+            }
+        }
+        InstantaneaParrilla nueva = new InstantaneaParrilla(piezas, reloj.ahoraMillis(), vista,
+                InstantaneaParrilla.leerMetricas(metricas), semCerveza.availablePermits(),
+                semPinzaBuena.availablePermits(), semCondimentos.availablePermits(), crudasPendientes.get());
+        ultimaInstantanea = nueva;
+        return nueva;
+    }
+
+    // Un solo campo: la lectura optimista alcanza y casi nunca hace falta el lock
+    private int leerOptimista(IntSupplier campo) {
+        long sello = disposicion.tryOptimisticRead();
+        int valor = campo.getAsInt();
+        if (!disposicion.validate(sello)) {
+            sello = disposicion.readLock();
+            try {
+                valor = campo.getAsInt();
+            } finally {
+                disposicion.unlockRead(sello);
+            }
+        }
+        return valor;
+    }
+
+    private String describirZonas(int[] indices) {
+        if (indices.length == zonas.length) {
+            return nombre;
+        }
+        if (indices.length == 1) {
+            return zonas[indices[0]].getDescripcionConArticulo();
+        }
+        StringBuilder descripcion = new StringBuilder();
+        for (int i = 0; i < indices.length; i++) {
+            if (i > 0) descripcion.append(i == indices.length - 1 ? " y " : ", ");
+            descripcion.append(zonas[indices[i]]);
+        }
+        return "la " + descripcion;
+    }
+
+    public boolean tomarCerveza(String actor) {
+        boolean conseguida = semCerveza.tryAcquire();
+        logEvento(actor, conseguida ? TipoEvento.TOMA_CERVEZA : TipoEvento.SIN_CERVEZA);
+        EventoCerveza evento = new EventoCerveza();
+        if (evento.shouldCommit()) {
+            evento.actor = actor;
+            evento.conseguida = conseguida;
+            evento.commit();
+        }
+        return conseguida;
+    }
+
+    public boolean usarPinzaBuena(String actor) {
+        if (semPinzaBuena.tryAcquire()) {
+            logEvento(actor, TipoEvento.USA_PINZA);
+            return true;
+        }
+        return false;
+    }
+
+    public void liberarPinzaBuena(String actor) {
+        semPinzaBuena.release();
+        logEvento(actor, TipoEvento.DEVUELVE_PINZA);
+    }
+
+    public boolean usarCondimentos(String actor) {
+        if (semCondimentos.tryAcquire()) {
+            logEvento(actor, TipoEvento.USA_CONDIMENTOS);
+            return true;
+        }
+        return false;
+    }
+
+    public void liberarCondimentos(String actor) {
+        semCondimentos.release();
+    }
+
+    // Getters para acceso a datos
+    public Map<String, PiezaCarne> getCarnes() { return carnes; }
+    public IndiceCarnes getIndice() { return indice; }
+    public int getCantidadZonas() { return zonas.length; }
+    public int getZonasCalientes() { return zonasCalientes; }
+    public ZonaParrilla getZona(int indice) { return zonas[indice]; }
+    public long getConflictos() { return metricas.valor(Metrica.CONFLICTOS); }
+    public long getAccesosExitosos() { return metricas.valor(Metrica.ACCESOS_EXITOSOS); }
+    public Reloj getReloj() { return reloj; }
+    public int getNivelCarbon() { return leerOptimista(() -> nivelCarbon); }
+    public int getTemperatura() { return leerOptimista(() -> temperatura); }
+    public int getCervezasDisponibles() { return semCerveza.availablePermits(); }
+    public int getPinzasDisponibles() { return semPinzaBuena.availablePermits(); }
+    public int getCondimentosDisponibles() { return semCondimentos.availablePermits(); }
+    public boolean isAsadoActivo() { return asadoActivo; }
+    public void terminarAsado() { this.asadoActivo = false; }
+
+    // Termina el asado y espera al carbón y a la cocción, que siguen registrando eventos
+    // después de que los actores terminan; va antes de cerrar las bitácoras. Con reloj
+    // virtual ya salieron cuando la agenda se vació.
+    public void detenerHilos() {
+        terminarAsado();
+        try {
+            coccion.detener();
+            controlTemperatura.interrupt();
+            controlTemperatura.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    public long getEventosRegistrados() { return metricas.valor(Metrica.EVENTOS_REGISTRADOS); }
+    public String getNombre() { return nombre; }
+    public LatenciasLocks getLatencias() { return latencias; }
+    public MetricasAsado getMetricas() { return metricas; }
+
+    public void incrementarRobos() { metricas.incrementar(Metrica.ROBOS_EXITOSOS); }
+    public void incrementarIntervenciones() { metricas.incrementar(Metrica.INTERVENCIONES_TIOS); }
+    public void incrementarCondimentadas() { metricas.incrementar(Metrica.CONDIMENTADAS_ABUELA); }
+
+    public void mostrarEstadisticas() {
+        // Todo de la misma foto: una pieza a mitad de una transición no se pierde entre totales
+        InstantaneaParrilla foto = instantanea();
+        logEvento("ESTADISTICAS", TipoEvento.RESUMEN_TITULO);
+        logEvento("ESTADISTICAS", TipoEvento.ROBOS_EXITOSOS, foto.valor(Metrica.ROBOS_EXITOSOS));
+        logEvento("ESTADISTICAS", TipoEvento.INTERVENCIONES_TIOS, foto.valor(Metrica.INTERVENCIONES_TIOS));
+        logEvento("ESTADISTICAS", TipoEvento.CONDIMENTADAS_ABUELA, foto.valor(Metrica.CONDIMENTADAS_ABUELA));
+        logEvento("ESTADISTICAS", TipoEvento.CONFLICTOS, foto.valor(Metrica.CONFLICTOS));
+
+        logEvento("ESTADISTICAS", TipoEvento.TOTAL_LISTAS,
+                foto.contar(EstadoCarne.LISTA) + "/" + foto.getCantidadPiezas());
+        logEvento("ESTADISTICAS", TipoEvento.TOTAL_QUEMADAS,
+                foto.contar(EstadoCarne.QUEMADA) + "/" + foto.getCantidadPiezas());
+        mostrarEstadisticasZonas(foto);
+        mostrarLatencias(latencias);
+    }
+
+    void mostrarLatencias(LatenciasLocks latencias) {
+        for (String linea : latencias.resumen()) {
+            logEvento("ESTADISTICAS", TipoEvento.ESTADISTICA, linea);
+        }
+    }
+
+    void mostrarEstadisticasZonas(InstantaneaParrilla foto) {
+        if (zonas.length > 1) {
+            for (ZonaParrilla zona : zonas) {
+                logEvento("ESTADISTICAS", TipoEvento.ESTADISTICA, "Accesos a la " + zona + ": "
+                        + zona.getAccesos() + " (conflictos: " + zona.getConflictos() + ", piezas al final: "
+                        + foto.getPiezasEnZona(zona.getIndice()) + ")");
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+import java.util.List;
+import java.util.Map;
+
+// Estado en vivo de una parrilla para jconsole / VisualVM (ver MonitorParrilla). Tiene que
+// ser pública para que JMX la pueda introspectar.
+public interface ParrillaMXBean {
+    boolean isAsadoActivo();
+    int getNivelCarbon();
+    int getTemperatura();
+    int[] getPiezasPorZona();
+
+    // Zonas: quién tiene cada una (vacío si está libre) y cuántos actores esperan
+    String[] getTenedoresZonas();
+    int[] getEsperandoPorZona();
+    int getEsperandoTotal();
+
+    int getCervezasDisponibles();
+    int getPinzasDisponibles();
+    int getCondimentosDisponibles();
+    int getCrudasPendientes();
+
+    Map<String, Long> getPiezasPorEstado();
+    Map<String, Long> getContadores();
+    List<String> getLatencias();
+}
@@ -0,0 +1,146 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.charset.StandardCharsets;
+
+// Clase que representa una pieza de carne
+class PiezaCarne {
+    private final int id;
+    private final TipoCarne tipo;
+    private final String nombre;
+    private final byte[] nombreUtf8;
+    private volatile int zona;
+
+    // Estado, robada, condimentada y tiempo de cocción empaquetados en un solo long que se
+    // cambia con CAS: "si está lista y nadie la robó, robarla" es una sola operación atómica
+    // y ningún actor necesita el lock de la zona para tocar la pieza.
+    //   bits 0-2: ordinal de EstadoCarne, bit 3: robada, bit 4: condimentada, bits 32-63: tiempo
+    private volatile long palabra;
+
+    private static final long MASCARA_ESTADO = 0x7L;
+    private static final long ROBADA = 1L << 3;
+    private static final long CONDIMENTADA = 1L << 4;
+    private static final int DESPLAZAMIENTO_TIEMPO = 32;
+    private static final long UNA_UNIDAD_TIEMPO = 1L << DESPLAZAMIENTO_TIEMPO;
+    // Lo que decide la celda del índice (todo menos el tiempo)
+    static final long MASCARA_INDICE = MASCARA_ESTADO | ROBADA | CONDIMENTADA;
+    private static final EstadoCarne[] ESTADOS = EstadoCarne.values();
+
+    // Celda del índice en la que está anotada la pieza; solo la toca IndiceCarnes, bajo su lock
+    private volatile IndiceCarnes indice;
+    private long palabraIndexada;
+
+    private static final VarHandle PALABRA;
+    static {
+        try {
+            PALABRA = MethodHandles.lookup().findVarHandle(PiezaCarne.class, "palabra", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    public PiezaCarne(int id, TipoCarne tipo, String nombre, int zona) {
+        this.id = id;
+        this.tipo = tipo;
+        this.nombre = nombre;
+        this.nombreUtf8 = nombre.getBytes(StandardCharsets.UTF_8);
+        this.zona = zona;
+        this.palabra = EstadoCarne.CRUDA.ordinal();
+    }
+
+    // Lecturas sin monitores: todas salen de una sola lectura volatile de la palabra
+    public EstadoCarne getEstado() { return estadoDe(palabra); }
+    public boolean isRobada() { return robadaDe(palabra); }
+    public boolean isCondimentada() { return condimentadaDe(palabra); }
+    public int getTiempoCoccion() { return (int) (palabra >>> DESPLAZAMIENTO_TIEMPO); }
+
+    // Escrituras incondicionales (inicialización, benchmarks); los actores usan las transiciones
+    public void setEstado(EstadoCarne estado) { cambiar(MASCARA_ESTADO, estado.ordinal()); }
+    public void setRobada(boolean robada) { cambiar(ROBADA, robada ? ROBADA : 0); }
+    public void setCondimentada(boolean condimentada) { cambiar(CONDIMENTADA, condimentada ? CONDIMENTADA : 0); }
+    public void incrementarTiempo() { sumarTiempo(1); }
+    public void sumarTiempo(int unidades) { PALABRA.getAndAdd(this, unidades * UNA_UNIDAD_TIEMPO); }
+
+    // Pasa de 'desde' a 'hacia' solo si la pieza sigue en 'desde' y no fue robada
+    public boolean tryTransition(EstadoCarne desde, EstadoCarne hacia) {
+        long actual;
+        do {
+            actual = palabra;
+            if (robadaDe(actual) || estadoDe(actual) != desde) {
+                return false;
+            }
+        } while (!PALABRA.compareAndSet(this, actual, (actual & ~MASCARA_ESTADO) | hacia.ordinal()));
+        reindexar();
+        EventoTransicionPieza evento = new EventoTransicionPieza();
+        if (evento.shouldCommit()) {
+            evento.pieza = nombre;
+            evento.tipo = tipo.name();
+            evento.desde = desde.name();
+            evento.hacia = hacia.name();
+            evento.commit();
+        }
+        return true;
+    }
+
+    // La roba solo si nadie la robó antes y ya está en segunda vuelta o lista
+    public boolean trySteal() {
+        long actual;
+        do {
+            actual = palabra;
+            EstadoCarne estado = estadoDe(actual);
+            if (robadaDe(actual) || (estado != EstadoCarne.SEGUNDA_VUELTA && estado != EstadoCarne.LISTA)) {
+                return false;
+            }
+        } while (!PALABRA.compareAndSet(this, actual, actual | ROBADA));
+        reindexar();
+        return true;
+    }
+
+    // La condimenta solo si sigue en la parrilla, sin condimentar, y ya empezó a cocinarse sin quemarse
+    public boolean tryCondimentar() {
+        long actual;
+        do {
+            actual = palabra;
+            EstadoCarne estado = estadoDe(actual);
+            if (robadaDe(actual) || condimentadaDe(actual)
+                    || estado == EstadoCarne.CRUDA || estado == EstadoCarne.QUEMADA) {
+                return false;
+            }
+        } while (!PALABRA.compareAndSet(this, actual, actual | CONDIMENTADA));
+        reindexar();
+        return true;
+    }
+
+    private void cambiar(long mascara, long bits) {
+        long actual;
+        do {
+            actual = palabra;
+        } while (!PALABRA.compareAndSet(this, actual, (actual & ~mascara) | bits));
+        reindexar();
+    }
+
+    public int getId() { return id; }
+    public TipoCarne getTipo() { return tipo; }
+    public String getNombre() { return nombre; }
+    byte[] getNombreUtf8() { return nombreUtf8; }
+    public int getZona() { return zona; }
+    void setZona(int zona) { this.zona = zona; }
+
+    long getPalabra() { return palabra; }
+    static EstadoCarne estadoDe(long palabra) { return ESTADOS[(int) (palabra & MASCARA_ESTADO)]; }
+    static boolean robadaDe(long palabra) { return (palabra & ROBADA) != 0; }
+    static boolean condimentadaDe(long palabra) { return (palabra & CONDIMENTADA) != 0; }
+
+    private void reindexar() {
+        IndiceCarnes actual = indice;
+        if (actual != null) {
+            actual.actualizar(this);
+        }
+    }
+
+    void marcarIndexada(IndiceCarnes indice, long palabra) {
+        this.indice = indice;
+        this.palabraIndexada = palabra & MASCARA_INDICE;
+    }
+
+    long getPalabraIndexada() { return palabraIndexada; }
+}
@@ -0,0 +1,11 @@
+// Cómo se reparte una zona de la parrilla entre los actores que la piden. Cada zona tiene
+// su propia instancia; se elige al arrancar con --politica.
+interface PoliticaAccesoParrilla {
+    // Espera la zona como máximo timeoutMs en el reloj del asado; true si quedó tomada
+    boolean adquirir(Rol rol, long timeoutMs) throws InterruptedException;
+
+    // Solo la llama quien la tiene tomada
+    void liberar();
+
+    boolean isTomadaPorHiloActual();
+}
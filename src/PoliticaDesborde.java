@@ -0,0 +1,2 @@
+// Qué hace la bitácora asíncrona cuando el buffer está lleno
+enum PoliticaDesborde { BLOQUEAR, DESCARTAR, MUESTREAR }
@@ -0,0 +1,160 @@
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// Programa la cocción de las piezas en una rueda de tiempo (hashed timing wheel): cada
+// pieza tiene anotado cuándo le toca el próximo paso y un único hilo dispara los pasos
+// justo cuando vencen. El trabajo es proporcional a las transiciones y no a piezas × turnos,
+// y el avance de la carne ya no depende de cuántas veces el asador gana el lock de la zona.
+// La rueda solo la toca el hilo del programador, así que no lleva locks; los asadores le
+// pasan las piezas que ponen al fuego por una cola concurrente.
+class ProgramadorCoccion {
+    // Duración de cada etapa en el tiempo del reloj
+    static final int SELLADO_MS = 10_000;
+    static final int PRIMERA_VUELTA_MS = 10_000;
+    static final int SEGUNDA_VUELTA_MS = 10_000;
+    static final int VARIACION_MS = 2_000;
+
+    private static final long TICK_MS = 500;
+    private static final int RANURAS = 512; // Una vuelta de la rueda: 256 s
+
+    // Una pieza anotada en la rueda; el nodo se reusa de etapa en etapa
+    private static final class Turno {
+        final PiezaCarne pieza;
+        final String asador;
+        long vencimiento;
+        Turno siguiente;
+
+        Turno(PiezaCarne pieza, String asador, long vencimiento) {
+            this.pieza = pieza;
+            this.asador = asador;
+            this.vencimiento = vencimiento;
+        }
+    }
+
+    private final Parrilla parrilla;
+    private final Reloj reloj;
+    private final SplittableRandom random; // Solo lo usa el hilo del programador
+    private final Turno[] ranuras = new Turno[RANURAS];
+    private final Queue<Turno> entrantes = new ConcurrentLinkedQueue<>();
+    // Los ticks se cuentan desde que arranca el programador y no desde la época, así el
+    // corte de los ticks no depende de la hora de arranque y la misma semilla repite el asado
+    private final long origen;
+    private long ultimoTick;
+    private volatile long transiciones = 0;
+    private final Thread hilo;
+
+    public ProgramadorCoccion(Parrilla parrilla, Reloj reloj, SplittableRandom random) {
+        this.parrilla = parrilla;
+        this.reloj = reloj;
+        this.random = random;
+        this.origen = reloj.ahoraMillis();
+        this.ultimoTick = 0;
+        this.hilo = new Thread(reloj.participante(this::correr), "programador-coccion");
+        hilo.setDaemon(true);
+    }
+
+    public void iniciar() {
+        hilo.start();
+    }
+
+    // Corta la espera del tick y espera que el hilo salga (la parrilla ya no está activa)
+    public void detener() throws InterruptedException {
+        hilo.interrupt();
+        hilo.join(1000);
+    }
+
+    // Una pieza que el asador acaba de poner a sellar; el resto de la cocción va por tiempo.
+    // La variación del sellado la suma el programador al sacarla de la cola.
+    public void agregarSellando(PiezaCarne pieza, String asador) {
+        entrantes.add(new Turno(pieza, asador, reloj.ahoraMillis() + SELLADO_MS));
+    }
+
+    private void correr() {
+        while (parrilla.isAsadoActivo()) {
+            try {
+                reloj.dormir(TICK_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            Turno nuevo;
+            while ((nuevo = entrantes.poll()) != null) {
+                agendar(nuevo, nuevo.vencimiento + random.nextInt(VARIACION_MS));
+            }
+            avanzar(reloj.ahoraMillis());
+        }
+    }
+
+    // Recorre las ranuras de los ticks transcurridos y dispara lo vencido; lo que vence
+    // en una vuelta posterior de la rueda se queda en su ranura
+    private void avanzar(long ahora) {
+        long tickActual = (ahora - origen) / TICK_MS;
+        long desde = Math.max(ultimoTick + 1, tickActual - RANURAS + 1);
+        for (long tick = desde; tick <= tickActual; tick++) {
+            int ranura = (int) (tick & (RANURAS - 1));
+            Turno turno = ranuras[ranura];
+            ranuras[ranura] = null;
+            while (turno != null) {
+                Turno siguiente = turno.siguiente;
+                if (turno.vencimiento <= ahora) {
+                    disparar(turno, ahora);
+                } else {
+                    agendar(turno, turno.vencimiento);
+                }
+                turno = siguiente;
+            }
+        }
+        ultimoTick = tickActual;
+    }
+
+    private void disparar(Turno turno, long ahora) {
+        PiezaCarne carne = turno.pieza;
+        // Si la robaron, la transición falla y la pieza sale de la rueda
+        switch (carne.getEstado()) {
+            case SELLANDO:
+                if (carne.tryTransition(EstadoCarne.SELLANDO, EstadoCarne.PRIMERA_VUELTA)) {
+                    paso(turno, TipoEvento.PRIMERA_VUELTA, ahora, PRIMERA_VUELTA_MS);
+                }
+                break;
+            case PRIMERA_VUELTA:
+                if (carne.tryTransition(EstadoCarne.PRIMERA_VUELTA, EstadoCarne.SEGUNDA_VUELTA)) {
+                    paso(turno, TipoEvento.SEGUNDA_VUELTA, ahora, SEGUNDA_VUELTA_MS);
+                }
+                break;
+            case SEGUNDA_VUELTA:
+                if (random.nextDouble() < 0.8) {
+                    if (carne.tryTransition(EstadoCarne.SEGUNDA_VUELTA, EstadoCarne.LISTA)) {
+                        paso(turno, TipoEvento.CARNE_LISTA, ahora, 0);
+                    }
+                } else if (carne.tryTransition(EstadoCarne.SEGUNDA_VUELTA, EstadoCarne.QUEMADA)) {
+                    paso(turno, TipoEvento.CARNE_QUEMADA, ahora, 0);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    // Registra la transición y, si la etapa tiene duración, agenda la siguiente
+    private void paso(Turno turno, TipoEvento evento, long ahora, int duracionMs) {
+        transiciones++;
+        parrilla.logEvento(turno.asador, evento, turno.pieza);
+        if (duracionMs > 0) {
+            int demora = duracionMs + random.nextInt(VARIACION_MS);
+            turno.pieza.sumarTiempo(demora / 1000);
+            agendar(turno, ahora + demora);
+        }
+    }
+
+    private void agendar(Turno turno, long vencimiento) {
+        turno.vencimiento = vencimiento;
+        // Redondea para arriba: nunca se dispara antes de tiempo
+        long tick = Math.max((vencimiento - origen + TICK_MS - 1) / TICK_MS, ultimoTick + 1);
+        int ranura = (int) (tick & (RANURAS - 1));
+        turno.siguiente = ranuras[ranura];
+        ranuras[ranura] = turno;
+    }
+
+    public long getTransiciones() { return transiciones; }
+}
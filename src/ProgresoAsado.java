@@ -0,0 +1,46 @@
+// Imprime una línea de progreso cada tantos segundos del reloj del asado: eventos por segundo
+// real desde la línea anterior y cuántas piezas hay listas, quemadas y robadas. Lo usa el
+// modo headless, donde la consola no muestra cada evento.
+class ProgresoAsado implements Runnable {
+    private final Quincho quincho;
+    private final long intervaloMs;
+
+    public ProgresoAsado(Quincho quincho, int intervaloSegundos) {
+        this.quincho = quincho;
+        this.intervaloMs = intervaloSegundos * 1000L;
+    }
+
+    @Override
+    public void run() {
+        Reloj reloj = quincho.getReloj();
+        long inicioReloj = reloj.ahoraMillis();
+        long eventosAntes = quincho.getEventosRegistrados();
+        long nanosAntes = System.nanoTime();
+
+        while (quincho.isAsadoActivo()) {
+            try {
+                reloj.dormir(intervaloMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (!quincho.isAsadoActivo()) {
+                return;
+            }
+            long eventos = quincho.getEventosRegistrados();
+            long nanos = System.nanoTime();
+            double porSegundo = (eventos - eventosAntes) / Math.max((nanos - nanosAntes) / 1e9, 1e-9);
+            eventosAntes = eventos;
+            nanosAntes = nanos;
+
+            System.out.printf("[progreso %6ds] %,d eventos (%,.0f/s) | listas %d | quemadas %d | robadas %d | conflictos %d%n",
+                    (reloj.ahoraMillis() - inicioReloj) / 1000, eventos, porSegundo,
+                    quincho.contar(EstadoCarne.LISTA), quincho.contar(EstadoCarne.QUEMADA),
+                    quincho.valor(Metrica.ROBOS_EXITOSOS), quincho.valor(Metrica.CONFLICTOS));
+            String latencias = quincho.getLatencias().resumenCorto();
+            if (!latencias.isEmpty()) {
+                System.out.println("[latencias] " + latencias);
+            }
+        }
+    }
+}
@@ -0,0 +1,188 @@
+import java.util.SplittableRandom;
+
+// El quincho: varias parrillas independientes, cada una con sus zonas, su carbón, su heladera
+// y sus piezas (repartidas por id). Los actores se reparten entre las parrillas y solo
+// compiten por la suya; lo único que cruza de una a otra es el trabajo de los asadores, que
+// cuando se quedan sin carne cruda en su parrilla le sacan a la que tiene más por poner.
+// Las bitácoras son compartidas: todas las parrillas escriben en el mismo destino.
+class Quincho {
+    private final Parrilla[] parrillas;
+    private final BitacoraEventos[] bitacoras;
+    private final Reloj reloj;
+    // De la semilla salen, en orden, los generadores de cada parrilla y de cada actor
+    private final SplittableRandom semillero;
+
+    public Quincho(ConfiguracionAsado config, Reloj reloj) {
+        this.reloj = reloj;
+        this.semillero = new SplittableRandom(config.getSemilla());
+        int cantidad = config.getParrillas();
+        this.parrillas = new Parrilla[cantidad];
+        if (cantidad == 1) {
+            parrillas[0] = new Parrilla(config, reloj, semillero.split());
+            this.bitacoras = null;
+        } else {
+            this.bitacoras = config.crearBitacoras();
+            for (int i = 0; i < cantidad; i++) {
+                parrillas[i] = new Parrilla(config, reloj, bitacoras, i, cantidad, semillero.split());
+            }
+        }
+    }
+
+    // Generador propio para un actor nuevo. SplittableRandom no es thread-safe: se llama
+    // solo mientras se arma el asado, desde el hilo que crea los actores.
+    public SplittableRandom nuevoAzar() {
+        return semillero.split();
+    }
+
+    public int getCantidad() { return parrillas.length; }
+    public Parrilla getParrilla(int indice) { return parrillas[indice]; }
+    // Parrilla del actor número indice de su rol, en ronda
+    public Parrilla getParrillaDe(int indice) { return parrillas[indice % parrillas.length]; }
+    public Reloj getReloj() { return reloj; }
+
+    // Pone al fuego una pieza cruda de la parrilla propia o, si no le quedan, de la que más
+    // tenga pendientes. Devuelve false si no queda carne cruda en todo el quincho.
+    public boolean ponerAlFuego(String asador, Parrilla propia) {
+        PiezaCarne pieza = propia.tomarCruda();
+        if (pieza != null) {
+            return propia.ponerAlFuego(asador, pieza) || ponerAlFuego(asador, propia);
+        }
+        // Los pendientes se leen sin lock: si otro asador se adelanta, se vuelve a elegir
+        for (int intento = 0; intento < parrillas.length; intento++) {
+            Parrilla victima = masCargada(propia);
+            if (victima == null) {
+                return false;
+            }
+            pieza = victima.cederCruda();
+            if (pieza != null) {
+                propia.getMetricas().incrementar(Metrica.TRABAJO_ROBADO);
+                return victima.ponerAlFuego(asador, pieza) || ponerAlFuego(asador, propia);
+            }
+        }
+        return false;
+    }
+
+    private Parrilla masCargada(Parrilla excepto) {
+        Parrilla elegida = null;
+        int maximo = 0;
+        for (Parrilla parrilla : parrillas) {
+            int pendientes = parrilla.getCrudasPendientes();
+            if (parrilla != excepto && pendientes > maximo) {
+                elegida = parrilla;
+                maximo = pendientes;
+            }
+        }
+        return elegida;
+    }
+
+    // Los eventos del sistema van por la primera parrilla; las bitácoras son las mismas
+    public void logEvento(String actor, TipoEvento tipo) {
+        parrillas[0].logEvento(actor, tipo);
+    }
+
+    public void logEvento(String actor, TipoEvento tipo, String texto) {
+        parrillas[0].logEvento(actor, tipo, texto);
+    }
+
+    public boolean isAsadoActivo() { return parrillas[0].isAsadoActivo(); }
+
+    public void terminarAsado() {
+        for (Parrilla parrilla : parrillas) {
+            parrilla.terminarAsado();
+        }
+    }
+
+    public long valor(Metrica metrica) {
+        long suma = 0;
+        for (Parrilla parrilla : parrillas) {
+            suma += parrilla.getMetricas().valor(metrica);
+        }
+        return suma;
+    }
+
+    public long contar(EstadoCarne estado) {
+        long suma = 0;
+        for (Parrilla parrilla : parrillas) {
+            suma += parrilla.getIndice().contar(estado);
+        }
+        return suma;
+    }
+
+    public int getCantidadPiezas() {
+        int piezas = 0;
+        for (Parrilla parrilla : parrillas) {
+            piezas += parrilla.getCarnes().size();
+        }
+        return piezas;
+    }
+
+    public long getEventosRegistrados() { return valor(Metrica.EVENTOS_REGISTRADOS); }
+    public long getAccesosExitosos() { return valor(Metrica.ACCESOS_EXITOSOS); }
+    public long getConflictos() { return valor(Metrica.CONFLICTOS); }
+
+    public void mostrarEstadisticas() {
+        if (parrillas.length == 1) {
+            parrillas[0].mostrarEstadisticas();
+            return;
+        }
+        logEvento("ESTADISTICAS", TipoEvento.RESUMEN_TITULO);
+        Parrilla primera = parrillas[0];
+        primera.logEvento("ESTADISTICAS", TipoEvento.ROBOS_EXITOSOS, valor(Metrica.ROBOS_EXITOSOS));
+        primera.logEvento("ESTADISTICAS", TipoEvento.INTERVENCIONES_TIOS, valor(Metrica.INTERVENCIONES_TIOS));
+        primera.logEvento("ESTADISTICAS", TipoEvento.CONDIMENTADAS_ABUELA, valor(Metrica.CONDIMENTADAS_ABUELA));
+        primera.logEvento("ESTADISTICAS", TipoEvento.CONFLICTOS, valor(Metrica.CONFLICTOS));
+
+        // Una foto por parrilla, así los totales y el detalle cuentan las mismas piezas
+        InstantaneaParrilla[] fotos = new InstantaneaParrilla[parrillas.length];
+        long listas = 0;
+        long quemadas = 0;
+        int piezas = 0;
+        for (int i = 0; i < parrillas.length; i++) {
+            fotos[i] = parrillas[i].instantanea();
+            listas += fotos[i].contar(EstadoCarne.LISTA);
+            quemadas += fotos[i].contar(EstadoCarne.QUEMADA);
+            piezas += fotos[i].getCantidadPiezas();
+        }
+        logEvento("ESTADISTICAS", TipoEvento.TOTAL_LISTAS, listas + "/" + piezas);
+        logEvento("ESTADISTICAS", TipoEvento.TOTAL_QUEMADAS, quemadas + "/" + piezas);
+
+        for (int i = 0; i < parrillas.length; i++) {
+            InstantaneaParrilla foto = fotos[i];
+            logEvento("ESTADISTICAS", TipoEvento.ESTADISTICA, "En " + parrillas[i].getNombre() + ": "
+                    + foto.valor(Metrica.ACCESOS_EXITOSOS) + " accesos (conflictos: "
+                    + foto.valor(Metrica.CONFLICTOS) + "), " + foto.contar(EstadoCarne.LISTA) + " listas y "
+                    + foto.contar(EstadoCarne.QUEMADA) + " quemadas de " + foto.getCantidadPiezas()
+                    + ", " + foto.valor(Metrica.PIEZAS_AL_FUEGO) + " al fuego (robó "
+                    + foto.valor(Metrica.TRABAJO_ROBADO) + ", le robaron " + foto.valor(Metrica.TRABAJO_CEDIDO) + ")");
+            parrillas[i].mostrarEstadisticasZonas(foto);
+        }
+        primera.mostrarLatencias(getLatencias());
+    }
+
+    // Latencias de las zonas de todas las parrillas juntas
+    public LatenciasLocks getLatencias() {
+        if (parrillas.length == 1) {
+            return parrillas[0].getLatencias();
+        }
+        LatenciasLocks suma = new LatenciasLocks();
+        for (Parrilla parrilla : parrillas) {
+            suma.sumar(parrilla.getLatencias());
+        }
+        return suma;
+    }
+
+    // Con una sola parrilla las bitácoras son suyas; si no, se cierran una vez acá, después
+    // de detener los hilos de todas las parrillas
+    public void cerrarBitacora() {
+        if (bitacoras == null) {
+            parrillas[0].cerrarBitacora();
+            return;
+        }
+        for (Parrilla parrilla : parrillas) {
+            parrilla.detenerHilos();
+        }
+        for (BitacoraEventos bitacora : bitacoras) {
+            bitacora.cerrar();
+        }
+    }
+}
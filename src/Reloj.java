@@ -0,0 +1,26 @@
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.function.BooleanSupplier;
+
+// Fuente de tiempo del asado: todas las esperas de los actores pasan por acá
+interface Reloj {
+    long ahoraMillis();
+
+    // Para medir duraciones; el reloj real usa nanoTime, el virtual no tiene más que millis
+    default long ahoraNanos() { return ahoraMillis() * 1_000_000L; }
+
+    void dormir(long ms) throws InterruptedException;
+
+    // Intenta tomar el lock esperando como máximo timeoutMs en el tiempo de este reloj
+    boolean intentarBloquear(Lock lock, long timeoutMs) throws InterruptedException;
+
+    // Con el lock tomado, espera en la condición hasta que 'listo' se cumpla o venza el
+    // timeout; devuelve 'listo'. Quien cambia el estado llama a avisar con el lock tomado.
+    boolean esperar(Lock lock, Condition condicion, BooleanSupplier listo, long timeoutMs)
+            throws InterruptedException;
+
+    void avisar(Condition condicion);
+
+    // Envuelve la tarea de un hilo para que participe del reloj
+    Runnable participante(Runnable tarea);
+}
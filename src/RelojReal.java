@@ -0,0 +1,40 @@
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.function.BooleanSupplier;
+
+// Reloj de pared: los actores duermen de verdad
+class RelojReal implements Reloj {
+    @Override
+    public long ahoraMillis() { return System.currentTimeMillis(); }
+
+    @Override
+    public long ahoraNanos() { return System.nanoTime(); }
+
+    @Override
+    public void dormir(long ms) throws InterruptedException { Thread.sleep(ms); }
+
+    @Override
+    public boolean intentarBloquear(Lock lock, long timeoutMs) throws InterruptedException {
+        return lock.tryLock(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public boolean esperar(Lock lock, Condition condicion, BooleanSupplier listo, long timeoutMs)
+            throws InterruptedException {
+        long nanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        while (!listo.getAsBoolean()) {
+            if (nanos <= 0) {
+                return false;
+            }
+            nanos = condicion.awaitNanos(nanos);
+        }
+        return true;
+    }
+
+    @Override
+    public void avisar(Condition condicion) { condicion.signalAll(); }
+
+    @Override
+    public Runnable participante(Runnable tarea) { return tarea; }
+}
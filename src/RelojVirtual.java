@@ -0,0 +1,168 @@
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.function.BooleanSupplier;
+
+// Reloj de simulación de eventos discretos: cada espera es un evento en una cola
+// de prioridad y el tiempo salta directo al próximo evento. Solo un participante
+// corre a la vez (el que tiene el turno), así que la agenda no necesita lock.
+class RelojVirtual implements Reloj {
+    // Cada cuánto reintenta un actor que espera un lock ocupado
+    private static final long QUANTUM_LOCK_MS = 50;
+
+    private static final class Despertar implements Comparable<Despertar> {
+        final long tiempo;
+        final long secuencia;
+        final Semaphore turno;
+        final Runnable accion;
+
+        Despertar(long tiempo, long secuencia, Runnable accion) {
+            this(tiempo, secuencia, accion, accion == null ? new Semaphore(0) : null);
+        }
+
+        // Otro despertar para el mismo participante, en otro momento
+        Despertar(long tiempo, long secuencia, Runnable accion, Semaphore turno) {
+            this.tiempo = tiempo;
+            this.secuencia = secuencia;
+            this.accion = accion;
+            this.turno = turno;
+        }
+
+        @Override
+        public int compareTo(Despertar otro) {
+            int cmp = Long.compare(tiempo, otro.tiempo);
+            return cmp != 0 ? cmp : Long.compare(secuencia, otro.secuencia);
+        }
+    }
+
+    private final PriorityQueue<Despertar> agenda = new PriorityQueue<>();
+    // Participantes esperando en cada condición, agendados para su timeout
+    private final Map<Condition, List<Despertar>> esperandoPor = new IdentityHashMap<>();
+    private final Semaphore cedido = new Semaphore(0);
+    private final long inicio;
+    private volatile long ahora;
+    private long secuencia = 0;
+    private long eventosProcesados = 0;
+
+    public RelojVirtual() {
+        this.inicio = System.currentTimeMillis();
+        this.ahora = inicio;
+    }
+
+    @Override
+    public long ahoraMillis() { return ahora; }
+
+    @Override
+    public void dormir(long ms) throws InterruptedException {
+        Despertar despertar = agendar(ahora + ms, null);
+        cedido.release();
+        despertar.turno.acquireUninterruptibly();
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+    @Override
+    public boolean intentarBloquear(Lock lock, long timeoutMs) throws InterruptedException {
+        long limite = ahora + timeoutMs;
+        while (!lock.tryLock()) {
+            long restante = limite - ahora;
+            if (restante <= 0) {
+                return false;
+            }
+            dormir(Math.min(QUANTUM_LOCK_MS, restante));
+        }
+        return true;
+    }
+
+    // El lock se suelta mientras duerme y se vuelve a tomar al despertar; como nadie lo
+    // retiene entre turnos, retomarlo nunca bloquea
+    @Override
+    public boolean esperar(Lock lock, Condition condicion, BooleanSupplier listo, long timeoutMs)
+            throws InterruptedException {
+        long limite = ahora + timeoutMs;
+        while (!listo.getAsBoolean()) {
+            if (ahora >= limite) {
+                return false;
+            }
+            Despertar despertar = agendar(limite, null);
+            List<Despertar> esperando = esperandoPor.computeIfAbsent(condicion, c -> new ArrayList<>());
+            esperando.add(despertar);
+            lock.unlock();
+            try {
+                cedido.release();
+                despertar.turno.acquireUninterruptibly();
+            } finally {
+                lock.lock();
+            }
+            esperando.remove(despertar);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+        return true;
+    }
+
+    // Adelanta al momento actual el despertar de los que esperan en la condición
+    @Override
+    public void avisar(Condition condicion) {
+        List<Despertar> esperando = esperandoPor.get(condicion);
+        if (esperando == null) {
+            return;
+        }
+        for (Despertar despertar : esperando) {
+            if (agenda.remove(despertar)) {
+                agenda.add(new Despertar(ahora, secuencia++, null, despertar.turno));
+            }
+        }
+        // Los que sigan sin poder pasar se vuelven a anotar al despertar
+        esperando.clear();
+    }
+
+    @Override
+    public Runnable participante(Runnable tarea) {
+        Despertar despertar = agendar(ahora, null);
+        return () -> {
+            despertar.turno.acquireUninterruptibly();
+            try {
+                tarea.run();
+            } finally {
+                cedido.release();
+            }
+        };
+    }
+
+    // Ejecuta la acción en el hilo del planificador cuando el reloj llegue a ese momento
+    public void programar(long demoraMs, Runnable accion) {
+        agendar(ahora + demoraMs, accion);
+    }
+
+    // Corre la simulación hasta que no queden eventos pendientes
+    public void correr() {
+        Despertar despertar;
+        while ((despertar = agenda.poll()) != null) {
+            ahora = despertar.tiempo;
+            eventosProcesados++;
+            if (despertar.accion != null) {
+                despertar.accion.run();
+            } else {
+                despertar.turno.release();
+                cedido.acquireUninterruptibly();
+            }
+        }
+    }
+
+    public long getTiempoSimuladoMs() { return ahora - inicio; }
+    public long getEventosProcesados() { return eventosProcesados; }
+
+    private Despertar agendar(long tiempo, Runnable accion) {
+        Despertar despertar = new Despertar(tiempo, secuencia++, accion);
+        agenda.add(despertar);
+        return despertar;
+    }
+}
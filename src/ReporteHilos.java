@@ -0,0 +1,115 @@
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+// Huella de memoria y throughput de una corrida, para comparar hilos de plataforma y virtuales
+class ReporteHilos {
+    private static final Path STATUS_PROCESO = Paths.get("/proc/self/status");
+
+    private final TipoHilos tipoHilos;
+    private final boolean relojVirtual;
+    private long heapAntes;
+    private long rssAntes;
+    private long heapConActores;
+    private long rssConActores;
+    private long inicioNanos;
+    private long millisTranscurridos;
+    private int actores;
+    private long eventos;
+    private int picoHilos;
+
+    public ReporteHilos(ConfiguracionAsado config) {
+        this.tipoHilos = config.getTipoHilos();
+        this.relojVirtual = config.isRelojVirtual();
+    }
+
+    // Se llama justo antes de arrancar los actores
+    public void marcarInicio() {
+        System.gc();
+        heapAntes = heapUsado();
+        rssAntes = rssProceso();
+        ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+        inicioNanos = System.nanoTime();
+    }
+
+    // Se llama con todos los actores arrancados (los virtuales ya tienen su pila en el heap)
+    public void medirMemoria() {
+        heapConActores = heapUsado();
+        rssConActores = rssProceso();
+    }
+
+    public void marcarFin(int actores, long eventos) {
+        this.millisTranscurridos = getMillisTranscurridos();
+        this.actores = actores;
+        this.eventos = eventos;
+        this.picoHilos = ManagementFactory.getThreadMXBean().getPeakThreadCount();
+    }
+
+    public long getMillisTranscurridos() {
+        return (System.nanoTime() - inicioNanos) / 1_000_000;
+    }
+
+    public void imprimir() {
+        System.out.println("\n=== HILOS " + tipoHilos + (relojVirtual ? " (reloj virtual)" : "") + " ===");
+        System.out.println("Actores: " + actores + " | pico de hilos de plataforma: " + picoHilos);
+        System.out.println("Heap por actor: " + formatearBytes(porActor(heapConActores - heapAntes)));
+        if (rssAntes >= 0) {
+            System.out.println("RSS por actor: " + formatearBytes(porActor(rssConActores - rssAntes)));
+        }
+        System.out.printf("Throughput: %.1f eventos/s (%d eventos en %d ms)%n",
+                eventosPorSegundo(), eventos, millisTranscurridos);
+    }
+
+    public static void imprimirComparacion(ReporteHilos plataforma, ReporteHilos virtuales) {
+        plataforma.imprimir();
+        virtuales.imprimir();
+        System.out.println("\n=== PLATAFORMA vs VIRTUAL ===");
+        System.out.printf("%-22s %16s %16s%n", "", "plataforma", "virtual");
+        System.out.printf("%-22s %16s %16s%n", "Heap por actor",
+                formatearBytes(plataforma.porActor(plataforma.heapConActores - plataforma.heapAntes)),
+                formatearBytes(virtuales.porActor(virtuales.heapConActores - virtuales.heapAntes)));
+        if (plataforma.rssAntes >= 0) {
+            System.out.printf("%-22s %16s %16s%n", "RSS por actor",
+                    formatearBytes(plataforma.porActor(plataforma.rssConActores - plataforma.rssAntes)),
+                    formatearBytes(virtuales.porActor(virtuales.rssConActores - virtuales.rssAntes)));
+        }
+        System.out.printf("%-22s %16d %16d%n", "Pico de hilos", plataforma.picoHilos, virtuales.picoHilos);
+        System.out.printf("%-22s %16.1f %16.1f%n", "Eventos/s",
+                plataforma.eventosPorSegundo(), virtuales.eventosPorSegundo());
+    }
+
+    private long porActor(long bytes) {
+        return actores == 0 ? 0 : Math.max(0, bytes) / actores;
+    }
+
+    private double eventosPorSegundo() {
+        return millisTranscurridos == 0 ? 0 : eventos * 1000.0 / millisTranscurridos;
+    }
+
+    private static long heapUsado() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    // Memoria residente del proceso (incluye pilas nativas de los hilos de plataforma); -1 fuera de Linux
+    private static long rssProceso() {
+        try {
+            for (String linea : Files.readAllLines(STATUS_PROCESO)) {
+                if (linea.startsWith("VmRSS:")) {
+                    String kb = linea.substring(6).replace("kB", "").trim();
+                    return Long.parseLong(kb) * 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Sin /proc: solo se reporta el heap
+        }
+        return -1;
+    }
+
+    private static String formatearBytes(long bytes) {
+        if (bytes < 1024) return bytes + " B";
+        if (bytes < 1024 * 1024) return String.format("%.1f KB", bytes / 1024.0);
+        return String.format("%.1f MB", bytes / (1024.0 * 1024));
+    }
+}
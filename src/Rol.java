@@ -0,0 +1,20 @@
+// Rol de quien pide la parrilla, para separar las latencias por tipo de actor. La prioridad
+// (menor pasa primero) y los boletos los usan las políticas de acceso que distinguen roles.
+enum Rol {
+    ASADOR(0, 8),
+    TIO(1, 2),
+    PRIMO(3, 1),
+    ABUELA(2, 4),
+    OTRO(4, 1);
+
+    private final int prioridad;
+    private final int boletos;
+
+    Rol(int prioridad, int boletos) {
+        this.prioridad = prioridad;
+        this.boletos = boletos;
+    }
+
+    public int getPrioridad() { return prioridad; }
+    public int getBoletos() { return boletos; }
+}
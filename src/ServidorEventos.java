@@ -0,0 +1,304 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Bitácora que transmite los eventos en vivo por HTTP como server-sent events (--eventos-http):
+// GET /eventos es un stream text/event-stream con un JSON por evento y GET / una página que
+// lo muestra en el navegador. Solo escucha en localhost.
+// Cada suscriptor tiene su propio anillo de CAPACIDAD eventos: el actor que registra solo
+// reserva un lugar con getAndIncrement y lo escribe, sin locks ni esperas, y si el cliente
+// lee más lento que lo que pasa en el asado se pisan los eventos más viejos. El cliente se
+// entera con un evento "descartados". Armar el JSON y escribir en el socket lo hace el hilo
+// virtual de cada conexión, nunca el actor. Sin suscriptores, registrar no hace nada.
+class ServidorEventos implements BitacoraEventos {
+    private static final int CAPACIDAD = 1024;
+    // Cada cuánto mira su anillo una conexión sin eventos, y cada cuánto manda un latido
+    private static final long ESPERA_MS = 100;
+    private static final long LATIDO_MS = 15_000;
+    private static final int LOTE = 256;
+    private static final Suscriptor[] NINGUNO = new Suscriptor[0];
+    private static final byte[] PAGINA = ("<!DOCTYPE html><meta charset=\"utf-8\"><title>Asado en vivo</title>"
+            + "<body style=\"font-family:monospace\"><h3>Asado en vivo</h3><div id=\"eventos\"></div><script>"
+            + "const div = document.getElementById('eventos');"
+            + "const agregar = texto => { const p = document.createElement('div'); p.textContent = texto;"
+            + " div.prepend(p); while (div.childElementCount > 500) div.lastChild.remove(); };"
+            + "const fuente = new EventSource('/eventos');"
+            + "fuente.onmessage = m => { const e = JSON.parse(m.data); agregar(e.actor + ': ' + e.texto); };"
+            + "fuente.addEventListener('descartados', m => agregar('... ' + JSON.parse(m.data).descartados"
+            + " + ' eventos descartados'));"
+            + "</script>").getBytes(StandardCharsets.UTF_8);
+
+    // Lo que se guarda por evento: los datos tal como llegan, el JSON se arma al mandarlo
+    private static final class Evento {
+        final long marcaMillis;
+        final String actor;
+        final TipoEvento tipo;
+        final String pieza;
+        final String texto;
+        final long valor;
+
+        Evento(long marcaMillis, String actor, TipoEvento tipo, String pieza, String texto, long valor) {
+            this.marcaMillis = marcaMillis;
+            this.actor = actor;
+            this.tipo = tipo;
+            this.pieza = pieza;
+            this.texto = texto;
+            this.valor = valor;
+        }
+    }
+
+    // Lugar del anillo: la secuencia dice si ya es el evento esperado o uno que lo pisó
+    private static final class Entrada {
+        final long secuencia;
+        final Evento evento;
+
+        Entrada(long secuencia, Evento evento) {
+            this.secuencia = secuencia;
+            this.evento = evento;
+        }
+    }
+
+    // Anillo de una conexión: muchos actores escriben, solo el hilo de la conexión lee
+    static final class Suscriptor {
+        private final AtomicReferenceArray<Entrada> anillo = new AtomicReferenceArray<>(CAPACIDAD);
+        private final AtomicLong escritos = new AtomicLong();
+        private long leidos;
+        private long descartados;
+
+        void publicar(Evento evento) {
+            long secuencia = escritos.getAndIncrement();
+            anillo.set((int) (secuencia & (CAPACIDAD - 1)), new Entrada(secuencia, evento));
+        }
+
+        // Próximo evento en orden, o null si todavía no hay; saltea los que ya se pisaron
+        Evento siguiente() {
+            while (true) {
+                long disponibles = escritos.get();
+                if (leidos >= disponibles) {
+                    return null;
+                }
+                if (disponibles - leidos > CAPACIDAD) {
+                    saltarA(disponibles - CAPACIDAD);
+                }
+                Entrada entrada = anillo.get((int) (leidos & (CAPACIDAD - 1)));
+                if (entrada == null || entrada.secuencia < leidos) {
+                    // Reservado pero el actor todavía no lo escribió
+                    return null;
+                }
+                if (entrada.secuencia == leidos) {
+                    leidos++;
+                    return entrada.evento;
+                }
+                saltarA(Math.max(leidos + 1, escritos.get() - CAPACIDAD));
+            }
+        }
+
+        // Descartados desde la última llamada
+        long tomarDescartados() {
+            long cantidad = descartados;
+            descartados = 0;
+            return cantidad;
+        }
+
+        private void saltarA(long secuencia) {
+            descartados += secuencia - leidos;
+            leidos = secuencia;
+        }
+    }
+
+    private final HttpServer servidor;
+    private final ExecutorService conexiones = Executors.newVirtualThreadPerTaskExecutor();
+    // Copia al escribir: suscribirse es raro y registrar solo lee el arreglo
+    private volatile Suscriptor[] suscriptores = NINGUNO;
+    private final ReentrantLock lockSuscriptores = new ReentrantLock();
+    private volatile boolean abierto = true;
+
+    // Con puerto 0 el sistema elige uno libre
+    public ServidorEventos(int puerto) {
+        try {
+            servidor = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), puerto), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir el puerto de eventos " + puerto, e);
+        }
+        servidor.createContext("/", this::atender);
+        servidor.setExecutor(conexiones);
+        servidor.start();
+        System.out.println("Eventos en vivo en http://127.0.0.1:" + getPuerto() + "/ (stream en /eventos)");
+    }
+
+    public int getPuerto() { return servidor.getAddress().getPort(); }
+
+    @Override
+    public void registrar(long marcaMillis, String actor, TipoEvento tipo, PiezaCarne pieza, String texto, long valor) {
+        Suscriptor[] actuales = suscriptores;
+        if (actuales.length == 0) {
+            return;
+        }
+        Evento evento = new Evento(marcaMillis, actor, tipo, pieza == null ? null : pieza.getNombre(), texto, valor);
+        for (Suscriptor suscriptor : actuales) {
+            suscriptor.publicar(evento);
+        }
+    }
+
+    // Las conexiones mandan lo que les quede y se cierran; se les da un segundo
+    @Override
+    public void cerrar() {
+        abierto = false;
+        servidor.stop(1);
+        conexiones.shutdown();
+    }
+
+    private void atender(HttpExchange intercambio) throws IOException {
+        try (intercambio) {
+            if (!intercambio.getRequestMethod().equals("GET")) {
+                intercambio.sendResponseHeaders(405, -1);
+                return;
+            }
+            switch (intercambio.getRequestURI().getPath()) {
+                case "/":
+                    intercambio.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+                    intercambio.sendResponseHeaders(200, PAGINA.length);
+                    intercambio.getResponseBody().write(PAGINA);
+                    break;
+                case "/eventos":
+                    transmitir(intercambio);
+                    break;
+                default:
+                    intercambio.sendResponseHeaders(404, -1);
+            }
+        }
+    }
+
+    private void transmitir(HttpExchange intercambio) throws IOException {
+        intercambio.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+        intercambio.getResponseHeaders().set("Cache-Control", "no-cache");
+        intercambio.sendResponseHeaders(200, 0);
+        OutputStream salida = intercambio.getResponseBody();
+        Suscriptor suscriptor = suscribir();
+        StringBuilder mensaje = new StringBuilder(256);
+        try {
+            salida.write(": conectado\n\n".getBytes(StandardCharsets.UTF_8));
+            salida.flush();
+            long ultimoEnvio = System.currentTimeMillis();
+            boolean seguir = true;
+            while (seguir) {
+                // Leído antes de vaciar el anillo, así lo registrado antes de cerrar se manda
+                seguir = abierto;
+                int enviados = 0;
+                Evento evento;
+                while (enviados < LOTE && (evento = suscriptor.siguiente()) != null) {
+                    long descartados = suscriptor.tomarDescartados();
+                    if (descartados > 0) {
+                        mensaje.append("event: descartados\ndata: {\"descartados\":").append(descartados).append("}\n\n");
+                    }
+                    mensaje.append("data: ");
+                    json(mensaje, evento);
+                    mensaje.append("\n\n");
+                    enviados++;
+                }
+                long ahora = System.currentTimeMillis();
+                if (mensaje.length() == 0 && ahora - ultimoEnvio >= LATIDO_MS) {
+                    mensaje.append(": latido\n\n");
+                }
+                if (mensaje.length() > 0) {
+                    salida.write(mensaje.toString().getBytes(StandardCharsets.UTF_8));
+                    salida.flush();
+                    mensaje.setLength(0);
+                    ultimoEnvio = ahora;
+                }
+                if (enviados < LOTE && seguir) {
+                    Thread.sleep(ESPERA_MS);
+                } else if (enviados == LOTE) {
+                    seguir = true;
+                }
+            }
+        } catch (IOException e) {
+            // El cliente se fue
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            desuscribir(suscriptor);
+        }
+    }
+
+    private Suscriptor suscribir() {
+        Suscriptor suscriptor = new Suscriptor();
+        lockSuscriptores.lock();
+        try {
+            Suscriptor[] nuevos = Arrays.copyOf(suscriptores, suscriptores.length + 1);
+            nuevos[nuevos.length - 1] = suscriptor;
+            suscriptores = nuevos;
+        } finally {
+            lockSuscriptores.unlock();
+        }
+        return suscriptor;
+    }
+
+    private void desuscribir(Suscriptor suscriptor) {
+        lockSuscriptores.lock();
+        try {
+            Suscriptor[] actuales = suscriptores;
+            Suscriptor[] nuevos = new Suscriptor[actuales.length - 1];
+            int i = 0;
+            for (Suscriptor otro : actuales) {
+                if (otro != suscriptor) {
+                    nuevos[i++] = otro;
+                }
+            }
+            suscriptores = nuevos;
+        } finally {
+            lockSuscriptores.unlock();
+        }
+    }
+
+    // {"marca":..,"actor":..,"tipo":..,"texto":..} más "pieza" o "valor" si el evento los tiene;
+    // "texto" es la línea completa, como en la consola pero sin hora ni colores
+    private static void json(StringBuilder destino, Evento evento) {
+        destino.append("{\"marca\":").append(evento.marcaMillis).append(",\"actor\":");
+        cadena(destino, evento.actor);
+        destino.append(",\"tipo\":\"").append(evento.tipo.name()).append("\",\"texto\":");
+        String argumento = evento.pieza != null ? evento.pieza
+                : evento.texto != null ? evento.texto
+                : evento.valor != SIN_VALOR ? Long.toString(evento.valor) : "";
+        cadena(destino, evento.tipo.getPrefijo() + argumento + evento.tipo.getSufijo());
+        if (evento.pieza != null) {
+            destino.append(",\"pieza\":");
+            cadena(destino, evento.pieza);
+        } else if (evento.texto == null && evento.valor != SIN_VALOR) {
+            destino.append(",\"valor\":").append(evento.valor);
+        }
+        destino.append('}');
+    }
+
+    private static void cadena(StringBuilder destino, String texto) {
+        destino.append('"');
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            switch (c) {
+                case '"': destino.append("\\\""); break;
+                case '\\': destino.append("\\\\"); break;
+                case '\n': destino.append("\\n"); break;
+                case '\r': destino.append("\\r"); break;
+                case '\t': destino.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        destino.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        destino.append(c);
+                    }
+            }
+        }
+        destino.append('"');
+    }
+}
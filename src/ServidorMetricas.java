@@ -0,0 +1,349 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Servidor HTTP solo en localhost que publica /metrics en el formato de texto de Prometheus
+// mientras dura el asado (--metricas-http). Atiende con un único hilo daemon, dueño del
+// expositor y de su buffer, así un scrape nunca compite con otro ni toma locks de los actores.
+class ServidorMetricas {
+    private static final String TIPO_CONTENIDO = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final HttpServer servidor;
+    private final ExecutorService hilo;
+
+    private ServidorMetricas(HttpServer servidor, ExecutorService hilo) {
+        this.servidor = servidor;
+        this.hilo = hilo;
+    }
+
+    // Con puerto 0 el sistema elige uno libre; getPuerto dice cuál
+    public static ServidorMetricas iniciar(Quincho quincho, int puerto) {
+        ExpositorPrometheus expositor = new ExpositorPrometheus(quincho);
+        HttpServer servidor;
+        try {
+            servidor = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), puerto), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir el puerto de métricas " + puerto, e);
+        }
+        ExecutorService hilo = Executors.newSingleThreadExecutor(tarea -> {
+            Thread t = new Thread(tarea, "metricas-http");
+            t.setDaemon(true);
+            return t;
+        });
+        servidor.createContext("/metrics", intercambio -> responder(intercambio, expositor));
+        servidor.setExecutor(hilo);
+        servidor.start();
+        return new ServidorMetricas(servidor, hilo);
+    }
+
+    public int getPuerto() { return servidor.getAddress().getPort(); }
+
+    public void detener() {
+        servidor.stop(0);
+        hilo.shutdown();
+    }
+
+    private static void responder(HttpExchange intercambio, ExpositorPrometheus expositor) throws IOException {
+        try (intercambio) {
+            if (!intercambio.getRequestURI().getPath().equals("/metrics")) {
+                intercambio.sendResponseHeaders(404, -1);
+                return;
+            }
+            if (!intercambio.getRequestMethod().equals("GET")) {
+                intercambio.sendResponseHeaders(405, -1);
+                return;
+            }
+            expositor.renderizar();
+            intercambio.getResponseHeaders().set("Content-Type", TIPO_CONTENIDO);
+            intercambio.sendResponseHeaders(200, expositor.getLargo());
+            OutputStream cuerpo = intercambio.getResponseBody();
+            expositor.escribir(cuerpo);
+        }
+    }
+}
+
+// Arma la respuesta de /metrics en un buffer de bytes que se reusa entre scrapes. Los
+// encabezados y cada "nombre{etiquetas} " se codifican una sola vez al crearlo; en cada
+// scrape solo se escriben los números. Los valores salen de una instantánea por parrilla
+// (piezas, contadores, carbón, permisos) y de los histogramas de latencia, sin locks.
+// No es thread-safe: lo usa solo el hilo del servidor.
+final class ExpositorPrometheus {
+    private static final Metrica[] METRICAS = Metrica.values();
+    private static final EstadoCarne[] ESTADOS = EstadoCarne.values();
+    private static final Rol[] ROLES = Rol.values();
+    private static final String[] RECURSOS = {"cerveza", "pinza", "condimento"};
+    // Límites de los histogramas de espera y retención, de 1 ms a 10 s
+    private static final long[] LIMITES_NANOS = {
+            1_000_000L, 5_000_000L, 10_000_000L, 25_000_000L, 50_000_000L, 100_000_000L, 250_000_000L,
+            500_000_000L, 1_000_000_000L, 2_500_000_000L, 5_000_000_000L, 10_000_000_000L
+    };
+
+    // Una familia de métricas: su # HELP / # TYPE y el prefijo de cada serie
+    private static final class Familia {
+        final byte[] encabezado;
+        final byte[][] series;
+
+        Familia(String nombre, String tipo, String ayuda, String[] etiquetas) {
+            this.encabezado = ascii("# HELP " + nombre + " " + ayuda + "\n# TYPE " + nombre + " " + tipo + "\n");
+            this.series = new byte[etiquetas.length][];
+            for (int i = 0; i < etiquetas.length; i++) {
+                series[i] = ascii(nombre + (etiquetas[i].isEmpty() ? "" : "{" + etiquetas[i] + "}") + " ");
+            }
+        }
+    }
+
+    // Histograma por parrilla y rol: las series de cada "le", la suma y la cuenta
+    private static final class FamiliaHistograma {
+        final byte[] encabezado;
+        final byte[][] cubetas;
+        final byte[][] sumas;
+        final byte[][] cuentas;
+
+        FamiliaHistograma(String nombre, String ayuda, String[] etiquetas) {
+            this.encabezado = ascii("# HELP " + nombre + " " + ayuda + "\n# TYPE " + nombre + " histogram\n");
+            this.cubetas = new byte[etiquetas.length * (LIMITES_NANOS.length + 1)][];
+            this.sumas = new byte[etiquetas.length][];
+            this.cuentas = new byte[etiquetas.length][];
+            for (int i = 0; i < etiquetas.length; i++) {
+                for (int b = 0; b <= LIMITES_NANOS.length; b++) {
+                    String le = b == LIMITES_NANOS.length ? "+Inf" : segundos(LIMITES_NANOS[b]);
+                    cubetas[i * (LIMITES_NANOS.length + 1) + b] =
+                            ascii(nombre + "_bucket{" + etiquetas[i] + ",le=\"" + le + "\"} ");
+                }
+                sumas[i] = ascii(nombre + "_sum{" + etiquetas[i] + "} ");
+                cuentas[i] = ascii(nombre + "_count{" + etiquetas[i] + "} ");
+            }
+        }
+    }
+
+    private final Quincho quincho;
+    private final InstantaneaParrilla[] fotos;
+    private final long[] acumulados = new long[LIMITES_NANOS.length];
+
+    private final Familia activo;
+    private final Familia[] contadores = new Familia[METRICAS.length];
+    private final Familia piezas;
+    private final Familia carbon;
+    private final Familia permisos;
+    private final Familia crudas;
+    private final Familia esperando;
+    private final Familia timeouts;
+    private final FamiliaHistograma esperas;
+    private final FamiliaHistograma retenciones;
+
+    private byte[] buffer = new byte[32 * 1024];
+    private int largo;
+
+    ExpositorPrometheus(Quincho quincho) {
+        this.quincho = quincho;
+        int cantidad = quincho.getCantidad();
+        this.fotos = new InstantaneaParrilla[cantidad];
+
+        String[] porParrilla = new String[cantidad];
+        String[] porEstado = new String[cantidad * ESTADOS.length];
+        String[] porRecurso = new String[cantidad * RECURSOS.length];
+        String[] porRol = new String[cantidad * ROLES.length];
+        int zonasTotales = 0;
+        for (int p = 0; p < cantidad; p++) {
+            zonasTotales += quincho.getParrilla(p).getCantidadZonas();
+        }
+        String[] porZona = new String[zonasTotales];
+        int zona = 0;
+        for (int p = 0; p < cantidad; p++) {
+            String parrilla = "parrilla=\"" + (p + 1) + "\"";
+            porParrilla[p] = parrilla;
+            for (EstadoCarne estado : ESTADOS) {
+                porEstado[p * ESTADOS.length + estado.ordinal()] =
+                        parrilla + ",estado=\"" + estado.name().toLowerCase(Locale.ROOT) + "\"";
+            }
+            for (int r = 0; r < RECURSOS.length; r++) {
+                porRecurso[p * RECURSOS.length + r] = parrilla + ",recurso=\"" + RECURSOS[r] + "\"";
+            }
+            for (Rol rol : ROLES) {
+                porRol[p * ROLES.length + rol.ordinal()] =
+                        parrilla + ",rol=\"" + rol.name().toLowerCase(Locale.ROOT) + "\"";
+            }
+            for (int z = 0; z < quincho.getParrilla(p).getCantidadZonas(); z++) {
+                porZona[zona++] = parrilla + ",zona=\"" + (z + 1) + "\"";
+            }
+        }
+
+        activo = new Familia("asado_activo", "gauge", "1 mientras el asado sigue en curso", new String[] {""});
+        for (Metrica metrica : METRICAS) {
+            contadores[metrica.ordinal()] = new Familia("asado_" + metrica.name().toLowerCase(Locale.ROOT) + "_total",
+                    "counter", "Contador " + metrica.name() + " de la parrilla", porParrilla);
+        }
+        piezas = new Familia("asado_piezas", "gauge", "Piezas de la parrilla en cada estado", porEstado);
+        carbon = new Familia("asado_carbon_porcentaje", "gauge", "Nivel de carbon", porParrilla);
+        permisos = new Familia("asado_permisos_disponibles", "gauge", "Permisos libres de cada semaforo", porRecurso);
+        crudas = new Familia("asado_crudas_pendientes", "gauge", "Piezas crudas esperando ir al fuego", porParrilla);
+        esperando = new Familia("asado_zona_esperando", "gauge", "Actores esperando cada zona", porZona);
+        timeouts = new Familia("asado_zona_timeouts_total", "counter",
+                "Pedidos de zonas que se rindieron por timeout, por rol", porRol);
+        esperas = new FamiliaHistograma("asado_zona_espera_segundos",
+                "Espera por las zonas, del pedido al lock tomado", porRol);
+        retenciones = new FamiliaHistograma("asado_zona_retencion_segundos",
+                "Retencion de las zonas, del lock tomado a la liberacion", porRol);
+    }
+
+    public void renderizar() {
+        largo = 0;
+        int cantidad = fotos.length;
+        for (int p = 0; p < cantidad; p++) {
+            fotos[p] = quincho.getParrilla(p).instantanea();
+        }
+
+        agregar(activo.encabezado);
+        serie(activo, 0, quincho.isAsadoActivo() ? 1 : 0);
+        for (Metrica metrica : METRICAS) {
+            Familia familia = contadores[metrica.ordinal()];
+            agregar(familia.encabezado);
+            for (int p = 0; p < cantidad; p++) {
+                serie(familia, p, fotos[p].valor(metrica));
+            }
+        }
+        agregar(piezas.encabezado);
+        for (int p = 0; p < cantidad; p++) {
+            for (EstadoCarne estado : ESTADOS) {
+                serie(piezas, p * ESTADOS.length + estado.ordinal(), fotos[p].contar(estado));
+            }
+        }
+        agregar(carbon.encabezado);
+        for (int p = 0; p < cantidad; p++) {
+            serie(carbon, p, fotos[p].getNivelCarbon());
+        }
+        agregar(permisos.encabezado);
+        for (int p = 0; p < cantidad; p++) {
+            serie(permisos, p * RECURSOS.length, fotos[p].getCervezasDisponibles());
+            serie(permisos, p * RECURSOS.length + 1, fotos[p].getPinzasDisponibles());
+            serie(permisos, p * RECURSOS.length + 2, fotos[p].getCondimentosDisponibles());
+        }
+        agregar(crudas.encabezado);
+        for (int p = 0; p < cantidad; p++) {
+            serie(crudas, p, fotos[p].getCrudasPendientes());
+        }
+        agregar(esperando.encabezado);
+        int zona = 0;
+        for (int p = 0; p < cantidad; p++) {
+            Parrilla parrilla = quincho.getParrilla(p);
+            for (int z = 0; z < parrilla.getCantidadZonas(); z++) {
+                serie(esperando, zona++, parrilla.getZona(z).getEsperando());
+            }
+        }
+        agregar(timeouts.encabezado);
+        for (int p = 0; p < cantidad; p++) {
+            LatenciasLocks latencias = quincho.getParrilla(p).getLatencias();
+            for (Rol rol : ROLES) {
+                serie(timeouts, p * ROLES.length + rol.ordinal(), latencias.getTimeouts(rol));
+            }
+        }
+        agregar(esperas.encabezado);
+        for (int p = 0; p < cantidad; p++) {
+            LatenciasLocks latencias = quincho.getParrilla(p).getLatencias();
+            for (Rol rol : ROLES) {
+                histograma(esperas, p * ROLES.length + rol.ordinal(), latencias.getEspera(rol));
+            }
+        }
+        agregar(retenciones.encabezado);
+        for (int p = 0; p < cantidad; p++) {
+            LatenciasLocks latencias = quincho.getParrilla(p).getLatencias();
+            for (Rol rol : ROLES) {
+                histograma(retenciones, p * ROLES.length + rol.ordinal(), latencias.getRetencion(rol));
+            }
+        }
+    }
+
+    public int getLargo() { return largo; }
+
+    public void escribir(OutputStream salida) throws IOException {
+        salida.write(buffer, 0, largo);
+    }
+
+    private void serie(Familia familia, int indice, long valor) {
+        agregar(familia.series[indice]);
+        agregarNumero(valor);
+        agregarByte('\n');
+    }
+
+    private void histograma(FamiliaHistograma familia, int indice, HistogramaLatencia histograma) {
+        long cuenta = histograma.acumularHasta(LIMITES_NANOS, acumulados);
+        int base = indice * (LIMITES_NANOS.length + 1);
+        for (int b = 0; b < LIMITES_NANOS.length; b++) {
+            agregar(familia.cubetas[base + b]);
+            agregarNumero(acumulados[b]);
+            agregarByte('\n');
+        }
+        agregar(familia.cubetas[base + LIMITES_NANOS.length]);
+        agregarNumero(cuenta);
+        agregarByte('\n');
+        agregar(familia.sumas[indice]);
+        agregarSegundos(histograma.getSuma());
+        agregarByte('\n');
+        agregar(familia.cuentas[indice]);
+        agregarNumero(cuenta);
+        agregarByte('\n');
+    }
+
+    private void agregar(byte[] bytes) {
+        asegurar(bytes.length);
+        System.arraycopy(bytes, 0, buffer, largo, bytes.length);
+        largo += bytes.length;
+    }
+
+    private void agregarByte(char c) {
+        asegurar(1);
+        buffer[largo++] = (byte) c;
+    }
+
+    private void agregarNumero(long valor) {
+        asegurar(20);
+        if (valor < 0) {
+            buffer[largo++] = '-';
+            valor = -valor;
+        }
+        int inicio = largo;
+        do {
+            buffer[largo++] = (byte) ('0' + valor % 10);
+            valor /= 10;
+        } while (valor > 0);
+        for (int i = inicio, j = largo - 1; i < j; i++, j--) {
+            byte tmp = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = tmp;
+        }
+    }
+
+    // Nanos como segundos con nueve decimales, sin pasar por double ni String
+    private void agregarSegundos(long nanos) {
+        agregarNumero(nanos / 1_000_000_000L);
+        asegurar(10);
+        buffer[largo++] = '.';
+        long fraccion = nanos % 1_000_000_000L;
+        for (long divisor = 100_000_000L; divisor > 0; divisor /= 10) {
+            buffer[largo++] = (byte) ('0' + fraccion / divisor % 10);
+        }
+    }
+
+    private void asegurar(int extra) {
+        if (largo + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, largo + extra));
+        }
+    }
+
+    private static String segundos(long nanos) {
+        return Double.toString(nanos / 1e9);
+    }
+
+    private static byte[] ascii(String texto) {
+        return texto.getBytes(StandardCharsets.US_ASCII);
+    }
+}
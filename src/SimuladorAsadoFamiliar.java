@@ -1,267 +1,56 @@
-
 import java.util.*;
-import java.util.concurrent.*;
-import java.util.concurrent.locks.*;
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
-
-enum EstadoCarne {
-    CRUDA("cruda"),
-    SELLANDO("sellando"),
-    PRIMERA_VUELTA("primera_vuelta"),
-    SEGUNDA_VUELTA("segunda_vuelta"),
-    LISTA("lista"),
-    QUEMADA("quemada");
-
-    private final String descripcion;
-    EstadoCarne(String descripcion) { this.descripcion = descripcion; }
-    @Override public String toString() { return descripcion; }
-}
-
-enum TipoCarne {
-    CHORIZO("🌭"), MORCILLA("🖤"), COSTILLA("🥩"),
-    VACIO("🥓"), POLLO("🐔");
-
-    private final String emoji;
-    TipoCarne(String emoji) { this.emoji = emoji; }
-    @Override public String toString() { return emoji; }
-}
-
-// Clase que representa una pieza de carne
-class PiezaCarne {
-    private final TipoCarne tipo;
-    private final String nombre;
-    private volatile EstadoCarne estado;
-    private volatile int tiempoCoccion;
-    private volatile boolean robada;
-    private volatile boolean condimentada;
-
-    public PiezaCarne(TipoCarne tipo, String nombre) {
-        this.tipo = tipo;
-        this.nombre = nombre;
-        this.estado = EstadoCarne.CRUDA;
-        this.tiempoCoccion = 0;
-        this.robada = false;
-        this.condimentada = false;
-    }
-
-    // Getters y setters thread-safe
-    public synchronized EstadoCarne getEstado() { return estado; }
-    public synchronized void setEstado(EstadoCarne estado) { this.estado = estado; }
-    public synchronized boolean isRobada() { return robada; }
-    public synchronized void setRobada(boolean robada) { this.robada = robada; }
-    public synchronized boolean isCondimentada() { return condimentada; }
-    public synchronized void setCondimentada(boolean condimentada) { this.condimentada = condimentada; }
-    public synchronized void incrementarTiempo() { this.tiempoCoccion++; }
-
-    public TipoCarne getTipo() { return tipo; }
-    public String getNombre() { return nombre; }
-    public int getTiempoCoccion() { return tiempoCoccion; }
-}
-
-// Clase principal que maneja la parrilla y recursos compartidos
-class Parrilla {
-    // Locks y semáforos para sincronización
-    private final ReentrantLock mutexParrilla = new ReentrantLock();
-    private final Semaphore semCerveza = new Semaphore(15);
-    private final Semaphore semPinzaBuena = new Semaphore(1);
-    private final Semaphore semCondimentos = new Semaphore(3);
-
-    // Condiciones para notificaciones
-    private final Condition condEmergencia = mutexParrilla.newCondition();
-    private final Condition condCarneLista = mutexParrilla.newCondition();
-
-    // Estado de la parrilla
-    private final Map<String, PiezaCarne> carnes = new ConcurrentHashMap<>();
-    private volatile int nivelCarbon = 100;
-    private volatile int temperatura = 80;
-    private volatile boolean asadoActivo = true;
-
-    // Contadores de estadísticas
-    private volatile int robosExitosos = 0;
-    private volatile int intervencionesTios = 0;
-    private volatile int condimentadasAbuela = 0;
-    private volatile int conflictos = 0;
-
-    // Lock para logging thread-safe
-    private final Object lockLog = new Object();
-
-    public Parrilla() {
-        inicializarCarnes();
-        iniciarControlTemperatura();
-    }
-
-    private void inicializarCarnes() {
-        List<Map.Entry<TipoCarne, String>> carnesIniciales = Arrays.asList(
-                new AbstractMap.SimpleEntry<>(TipoCarne.CHORIZO, "Chorizo1"),
-                new AbstractMap.SimpleEntry<>(TipoCarne.CHORIZO, "Chorizo2"),
-                new AbstractMap.SimpleEntry<>(TipoCarne.MORCILLA, "Morcilla1"),
-                new AbstractMap.SimpleEntry<>(TipoCarne.MORCILLA, "Morcilla2"),
-                new AbstractMap.SimpleEntry<>(TipoCarne.COSTILLA, "Costilla1"),
-                new AbstractMap.SimpleEntry<>(TipoCarne.VACIO, "Vacio1"),
-                new AbstractMap.SimpleEntry<>(TipoCarne.POLLO, "Pollo1")
-        );
-
-        for (Map.Entry<TipoCarne, String> entry : carnesIniciales) {
-            carnes.put(entry.getValue(), new PiezaCarne(entry.getKey(), entry.getValue()));
-        }
-    }
-
-    private void iniciarControlTemperatura() {
-        // Hilo que controla la temperatura y el carbón
-        Thread controlTemperatura = new Thread(() -> {
-            while (asadoActivo) {
-                try {
-                    Thread.sleep(2000);
-                    if (nivelCarbon > 0) {
-                        nivelCarbon -= new Random().nextInt(3) + 1;
-                        if (nivelCarbon < 30) {
-                            logEvento("SISTEMA", "⚠️ Nivel de carbón bajo: " + nivelCarbon + "%", "YELLOW");
-                        }
-                    }
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    break;
-                }
-            }
-        });
-        controlTemperatura.setDaemon(true);
-        controlTemperatura.start();
-    }
-
-    public void logEvento(String actor, String evento, String color) {
-        synchronized (lockLog) {
-            String timestamp = LocalTime.now().format(DateTimeFormatter.ofPattern("HH:mm:ss"));
-            String colorCode = getColorCode(color);
-            String resetCode = color.isEmpty() ? "" : "\u001B[0m";
-            System.out.println(colorCode + "[" + timestamp + "] " + actor + ": " + evento + resetCode);
-        }
-    }
-
-    private String getColorCode(String color) {
-        switch (color.toUpperCase()) {
-            case "RED": return "\u001B[31m";
-            case "GREEN": return "\u001B[32m";
-            case "YELLOW": return "\u001B[33m";
-            case "BLUE": return "\u001B[34m";
-            case "PURPLE": return "\u001B[35m";
-            case "CYAN": return "\u001B[36m";
-            default: return "";
-        }
-    }
-
-    public boolean accederParrilla(String actor, long timeoutMs) {
-        try {
-            if (mutexParrilla.tryLock(timeoutMs, TimeUnit.MILLISECONDS)) {
-                logEvento(actor, "🔥 Accede a la parrilla", "YELLOW");
-                return true;
-            } else {
-                logEvento(actor, "⏰ No pudo acceder a la parrilla (timeout)", "RED");
-                conflictos++;
-                return false;
-            }
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return false;
-        }
-    }
-
-    public void liberarParrilla(String actor) {
-        mutexParrilla.unlock();
-        logEvento(actor, "🔓 Libera la parrilla", "GREEN");
-    }
-
-    public boolean tomarCerveza(String actor) {
-        if (semCerveza.tryAcquire()) {
-            logEvento(actor, "🍺 Toma una cerveza", "BLUE");
-            return true;
-        }
-        logEvento(actor, "😢 No hay más cerveza disponible", "RED");
-        return false;
-    }
-
-    public boolean usarPinzaBuena(String actor) {
-        if (semPinzaBuena.tryAcquire()) {
-            logEvento(actor, "🥄 Usa la pinza buena", "CYAN");
-            return true;
-        }
-        return false;
-    }
-
-    public void liberarPinzaBuena(String actor) {
-        semPinzaBuena.release();
-        logEvento(actor, "🥄 Devuelve la pinza buena", "CYAN");
-    }
-
-    public boolean usarCondimentos(String actor) {
-        if (semCondimentos.tryAcquire()) {
-            logEvento(actor, "🧂 Usa condimentos", "GREEN");
-            return true;
-        }
-        return false;
-    }
-
-    public void liberarCondimentos(String actor) {
-        semCondimentos.release();
-    }
-
-    // Getters para acceso a datos
-    public Map<String, PiezaCarne> getCarnes() { return carnes; }
-    public int getNivelCarbon() { return nivelCarbon; }
-    public int getTemperatura() { return temperatura; }
-    public boolean isAsadoActivo() { return asadoActivo; }
-    public void terminarAsado() { this.asadoActivo = false; }
-
-    public synchronized void incrementarRobos() { robosExitosos++; }
-    public synchronized void incrementarIntervenciones() { intervencionesTios++; }
-    public synchronized void incrementarCondimentadas() { condimentadasAbuela++; }
-
-    public void mostrarEstadisticas() {
-        logEvento("ESTADISTICAS", "=== RESUMEN DEL ASADO ===", "PURPLE");
-        logEvento("ESTADISTICAS", "Robos exitosos: " + robosExitosos, "");
-        logEvento("ESTADISTICAS", "Intervenciones de tíos: " + intervencionesTios, "");
-        logEvento("ESTADISTICAS", "Condimentadas por abuela: " + condimentadasAbuela, "");
-        logEvento("ESTADISTICAS", "Conflictos: " + conflictos, "");
-
-        long carneLista = carnes.values().stream().mapToLong(c ->
-                c.getEstado() == EstadoCarne.LISTA ? 1 : 0).sum();
-        long carneQuemada = carnes.values().stream().mapToLong(c ->
-                c.getEstado() == EstadoCarne.QUEMADA ? 1 : 0).sum();
-
-        logEvento("ESTADISTICAS", "Carne lista: " + carneLista + "/" + carnes.size(), "GREEN");
-        logEvento("ESTADISTICAS", "Carne quemada: " + carneQuemada + "/" + carnes.size(), "RED");
-    }
-}
+import javax.management.ObjectName;
 
 // Clase para el Asador Principal
 class AsadorPrincipal implements Runnable {
+    // Piezas crudas que pone al fuego por ronda antes de recorrer las zonas
+    private static final int PIEZAS_POR_RONDA = 3;
+
+    private final Quincho quincho;
     private final Parrilla parrilla;
     private final String nombre;
-    private final Random random = new Random();
+    private final Reloj reloj;
+    private final SplittableRandom random;
+    private final long timeoutMs;
 
-    public AsadorPrincipal(Parrilla parrilla, String nombre) {
+    public AsadorPrincipal(Quincho quincho, Parrilla parrilla, String nombre, SplittableRandom random, long timeoutMs) {
+        this.quincho = quincho;
         this.parrilla = parrilla;
         this.nombre = nombre;
+        this.random = random;
+        this.timeoutMs = timeoutMs;
+        this.reloj = parrilla.getReloj();
     }
 
     @Override
     public void run() {
-        parrilla.logEvento(nombre, "🎖️ Inicia como asador principal", "GREEN");
+        parrilla.logEvento(nombre, TipoEvento.INICIA_ASADOR);
 
         while (parrilla.isAsadoActivo()) {
             try {
-                // Verificar y cocinar carne
-                if (parrilla.accederParrilla(nombre, 3000)) {
-                    try {
-                        cocinarCarne();
-                        Thread.sleep(1000 + random.nextInt(2000)); // Tiempo de trabajo
-                    } finally {
-                        parrilla.liberarParrilla(nombre);
+                // Poner carne al fuego: primero la de su parrilla y, si no le queda, la de la
+                // parrilla más cargada del quincho
+                for (int i = 0; i < PIEZAS_POR_RONDA; i++) {
+                    if (!quincho.ponerAlFuego(nombre, parrilla)) {
+                        break;
+                    }
+                }
+
+                // Atender la parrilla zona por zona (las vueltas las dispara el programador de
+                // cocción a tiempo): solo bloquea la zona que está atendiendo
+                int cantidadZonas = parrilla.getCantidadZonas();
+                for (int zona = 0; zona < cantidadZonas && parrilla.isAsadoActivo(); zona++) {
+                    if (parrilla.accederZona(nombre, Rol.ASADOR, zona, timeoutMs)) {
+                        try {
+                            reloj.dormir((1000 + random.nextInt(2000)) / cantidadZonas); // Tiempo de trabajo
+                        } finally {
+                            parrilla.liberarZona(nombre, zona);
+                        }
                     }
                 }
 
                 // Descanso entre acciones
-                Thread.sleep(2000 + random.nextInt(3000));
+                reloj.dormir(2000 + random.nextInt(3000));
 
                 // Ocasionalmente tomar cerveza
                 if (random.nextDouble() < 0.3) {
@@ -274,79 +63,54 @@ class AsadorPrincipal implements Runnable {
             }
         }
 
-        parrilla.logEvento(nombre, "✅ Termina su trabajo como asador", "GREEN");
+        parrilla.logEvento(nombre, TipoEvento.TERMINA_ASADOR);
     }
 
-    private void cocinarCarne() {
-        for (PiezaCarne carne : parrilla.getCarnes().values()) {
-            if (carne.isRobada()) continue;
-
-            switch (carne.getEstado()) {
-                case CRUDA:
-                    if (random.nextDouble() < 0.4) {
-                        carne.setEstado(EstadoCarne.SELLANDO);
-                        parrilla.logEvento(nombre, "🔥 Empieza a sellar " + carne.getNombre(), "");
-                    }
-                    break;
-                case SELLANDO:
-                    if (carne.getTiempoCoccion() > 2) {
-                        carne.setEstado(EstadoCarne.PRIMERA_VUELTA);
-                        parrilla.logEvento(nombre, "🔄 Da vuelta " + carne.getNombre(), "");
-                    }
-                    break;
-                case PRIMERA_VUELTA:
-                    if (carne.getTiempoCoccion() > 4) {
-                        carne.setEstado(EstadoCarne.SEGUNDA_VUELTA);
-                        parrilla.logEvento(nombre, "🔄 Segunda vuelta a " + carne.getNombre(), "");
-                    }
-                    break;
-                case SEGUNDA_VUELTA:
-                    if (carne.getTiempoCoccion() > 6) {
-                        if (random.nextDouble() < 0.8) {
-                            carne.setEstado(EstadoCarne.LISTA);
-                            parrilla.logEvento(nombre, "✅ " + carne.getNombre() + " está listo!", "GREEN");
-                        } else {
-                            carne.setEstado(EstadoCarne.QUEMADA);
-                            parrilla.logEvento(nombre, "🔥💀 " + carne.getNombre() + " se quemó!", "RED");
-                        }
-                    }
-                    break;
-            }
-            carne.incrementarTiempo();
-        }
-    }
 }
 
 // Clase para los Tíos "Expertos"
 class TioExperto implements Runnable {
     private final Parrilla parrilla;
     private final String nombre;
-    private final Random random = new Random();
+    private final Reloj reloj;
+    private final SplittableRandom random;
+    private final long timeoutMs;
 
-    public TioExperto(Parrilla parrilla, String nombre) {
+    public TioExperto(Parrilla parrilla, String nombre, SplittableRandom random, long timeoutMs) {
         this.parrilla = parrilla;
         this.nombre = nombre;
+        this.reloj = parrilla.getReloj();
+        this.random = random;
+        this.timeoutMs = timeoutMs;
     }
 
     @Override
     public void run() {
-        parrilla.logEvento(nombre, "🧔 Llega el tío experto", "BLUE");
+        parrilla.logEvento(nombre, TipoEvento.LLEGA_TIO);
 
         while (parrilla.isAsadoActivo()) {
             try {
                 // Observar y decidir si intervenir
                 if (random.nextDouble() < 0.3) { // 30% chance de intervenir
-                    if (parrilla.accederParrilla(nombre, 1500)) {
+                    int consejo = random.nextInt(CONSEJOS.length);
+                    int[] zonas = zonasParaConsejo(consejo);
+                    if (parrilla.accederZonas(nombre, Rol.TIO, timeoutMs, zonas)) {
                         try {
-                            intervenir();
+                            intervenir(consejo, zonas);
                             parrilla.incrementarIntervenciones();
                         } finally {
-                            parrilla.liberarParrilla(nombre);
+                            parrilla.liberarZonas(nombre, zonas);
                         }
                     }
                 } else {
-                    // Solo observar y comentar
-                    parrilla.logEvento(nombre, "🗣️ 'Esa carne necesita más fuego...'", "BLUE");
+                    // Solo observar y comentar: mira sin tomar ninguna zona
+                    VistaParrilla vista = parrilla.mirar();
+                    if (vista.getNivelCarbon() < 30) {
+                        parrilla.logEvento(nombre, TipoEvento.CONSEJO_TIO,
+                                "Hay que echarle carbón, queda " + vista.getNivelCarbon() + "%");
+                    } else {
+                        parrilla.logEvento(nombre, TipoEvento.OPINA_TIO);
+                    }
                 }
 
                 // Tomar cerveza frecuentemente
@@ -354,7 +118,7 @@ class TioExperto implements Runnable {
                     parrilla.tomarCerveza(nombre);
                 }
 
-                Thread.sleep(3000 + random.nextInt(4000));
+                reloj.dormir(3000 + random.nextInt(4000));
 
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
@@ -362,23 +126,43 @@ class TioExperto implements Runnable {
             }
         }
 
-        parrilla.logEvento(nombre, "👋 Se retira el tío experto", "BLUE");
+        parrilla.logEvento(nombre, TipoEvento.SE_RETIRA_TIO);
     }
 
-    private void intervenir() {
-        String[] consejos = {
-                "Le da vuelta innecesariamente a una carne",
-                "Ajusta la posición de los carbones",
-                "Revisa el punto de cocción tocando la carne",
-                "Mueve una pieza a zona menos caliente",
-                "Comenta sobre la técnica del asador"
-        };
+    private static final String[] CONSEJOS = {
+            "Le da vuelta innecesariamente a una carne",
+            "Ajusta la posición de los carbones",
+            "Revisa el punto de cocción tocando la carne",
+            "Mueve una pieza a zona menos caliente",
+            "Comenta sobre la técnica del asador"
+    };
+    private static final int CONSEJO_MOVER_PIEZA = 3;
+
+    // Zonas que toca el consejo: una al azar, o una caliente y una fría si va a mover una pieza
+    private int[] zonasParaConsejo(int consejo) {
+        int calientes = parrilla.getZonasCalientes();
+        int frias = parrilla.getCantidadZonas() - calientes;
+        if (consejo == CONSEJO_MOVER_PIEZA && frias > 0) {
+            return new int[] {random.nextInt(calientes), calientes + random.nextInt(frias)};
+        }
+        return new int[] {random.nextInt(parrilla.getCantidadZonas())};
+    }
 
-        String consejo = consejos[random.nextInt(consejos.length)];
-        parrilla.logEvento(nombre, "👨‍🍳 " + consejo, "BLUE");
+    private void intervenir(int consejo, int[] zonas) {
+        parrilla.logEvento(nombre, TipoEvento.CONSEJO_TIO, CONSEJOS[consejo]);
+
+        if (zonas.length == 2) {
+            for (PiezaCarne carne : parrilla.getZona(zonas[0]).getPiezas()) {
+                if (!carne.isRobada()) {
+                    parrilla.moverPieza(carne, zonas[1]);
+                    parrilla.logEvento(nombre, TipoEvento.MUEVE_PIEZA, carne);
+                    break;
+                }
+            }
+        }
 
         try {
-            Thread.sleep(500 + random.nextInt(1000));
+            reloj.dormir(500 + random.nextInt(1000));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
@@ -389,36 +173,37 @@ class TioExperto implements Runnable {
 class PrimoLadron implements Runnable {
     private final Parrilla parrilla;
     private final String nombre;
-    private final Random random = new Random();
+    private final Reloj reloj;
+    private final SplittableRandom random;
 
-    public PrimoLadron(Parrilla parrilla, String nombre) {
+    public PrimoLadron(Parrilla parrilla, String nombre, SplittableRandom random) {
         this.parrilla = parrilla;
         this.nombre = nombre;
+        this.reloj = parrilla.getReloj();
+        this.random = random;
     }
 
     @Override
     public void run() {
-        parrilla.logEvento(nombre, "😈 Primo ladrón está al acecho", "PURPLE");
+        parrilla.logEvento(nombre, TipoEvento.ACECHA_PRIMO);
 
         while (parrilla.isAsadoActivo()) {
             try {
                 // Buscar oportunidad de robo
                 if (random.nextDouble() < 0.4) { // 40% chance de intentar robo
-                    if (parrilla.accederParrilla(nombre, 800)) { // Timeout corto para ser sigiloso
-                        try {
-                            if (intentarRobo()) {
-                                parrilla.incrementarRobos();
-                            }
-                        } finally {
-                            parrilla.liberarParrilla(nombre);
-                        }
+                    // Mira de lejos y manotea la pieza sin tomar la parrilla: el robo es atómico
+                    PiezaCarne objetivo = buscarObjetivo();
+                    if (objetivo == null) {
+                        parrilla.logEvento(nombre, TipoEvento.NADA_PARA_ROBAR);
+                    } else if (intentarRobo(objetivo)) {
+                        parrilla.incrementarRobos();
                     }
                 } else {
                     // Actuar inocente
-                    parrilla.logEvento(nombre, "😇 Actúa inocentemente...", "PURPLE");
+                    parrilla.logEvento(nombre, TipoEvento.ACTUA_INOCENTE);
                 }
 
-                Thread.sleep(4000 + random.nextInt(6000)); // Espera entre intentos
+                reloj.dormir(4000 + random.nextInt(6000)); // Espera entre intentos
 
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
@@ -426,30 +211,48 @@ class PrimoLadron implements Runnable {
             }
         }
 
-        parrilla.logEvento(nombre, "🏃‍♂️ Primo ladrón se escapa", "PURPLE");
+        parrilla.logEvento(nombre, TipoEvento.ESCAPA_PRIMO);
     }
 
-    private boolean intentarRobo() {
-        // Buscar chorizo o morcilla lista para robar
-        for (PiezaCarne carne : parrilla.getCarnes().values()) {
-            if (!carne.isRobada() &&
-                    (carne.getTipo() == TipoCarne.CHORIZO || carne.getTipo() == TipoCarne.MORCILLA) &&
-                    (carne.getEstado() == EstadoCarne.SEGUNDA_VUELTA || carne.getEstado() == EstadoCarne.LISTA)) {
-
-                carne.setRobada(true);
-                parrilla.logEvento(nombre, "🥷 ROBA " + carne.getNombre() + " exitosamente!", "PURPLE");
-
-                try {
-                    Thread.sleep(200); // Tiempo de robo rápido
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
+    private static final TipoCarne[] TIPOS_ROBABLES = {TipoCarne.CHORIZO, TipoCarne.MORCILLA};
+    private static final EstadoCarne[] ESTADOS_ROBABLES = {EstadoCarne.SEGUNDA_VUELTA, EstadoCarne.LISTA};
+
+    // Buscar chorizo o morcilla lista para robar, preguntándole al índice
+    private PiezaCarne buscarObjetivo() {
+        IndiceCarnes indice = parrilla.getIndice();
+        for (TipoCarne tipo : TIPOS_ROBABLES) {
+            for (EstadoCarne estado : ESTADOS_ROBABLES) {
+                PiezaCarne carne = indice.buscar(tipo, estado);
+                if (carne != null) {
+                    return carne;
                 }
-                return true;
             }
         }
+        return null;
+    }
+
+    private boolean intentarRobo(PiezaCarne carne) {
+        // Otro primo pudo ganarle de mano, o la pieza se quemó mientras miraba
+        if (!carne.trySteal()) {
+            parrilla.logEvento(nombre, TipoEvento.NADA_PARA_ROBAR);
+            return false;
+        }
 
-        parrilla.logEvento(nombre, "😔 No encuentra nada bueno para robar", "PURPLE");
-        return false;
+        parrilla.logEvento(nombre, TipoEvento.ROBA_PIEZA, carne);
+        EventoRobo evento = new EventoRobo();
+        if (evento.shouldCommit()) {
+            evento.actor = nombre;
+            evento.pieza = carne.getNombre();
+            evento.estado = carne.getEstado().name();
+            evento.commit();
+        }
+
+        try {
+            reloj.dormir(200); // Tiempo de robo rápido
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return true;
     }
 }
 
@@ -457,29 +260,28 @@ class PrimoLadron implements Runnable {
 class AbuelaSupervisora implements Runnable {
     private final Parrilla parrilla;
     private final String nombre;
-    private final Random random = new Random();
+    private final Reloj reloj;
+    private final SplittableRandom random;
 
-    public AbuelaSupervisora(Parrilla parrilla, String nombre) {
+    public AbuelaSupervisora(Parrilla parrilla, String nombre, SplittableRandom random) {
         this.parrilla = parrilla;
         this.nombre = nombre;
+        this.reloj = parrilla.getReloj();
+        this.random = random;
     }
 
     @Override
     public void run() {
-        parrilla.logEvento(nombre, "👵 Abuela inicia supervisión", "CYAN");
+        parrilla.logEvento(nombre, TipoEvento.INICIA_ABUELA);
 
         while (parrilla.isAsadoActivo()) {
             try {
                 // Supervisar y condimentar
                 if (random.nextDouble() < 0.6) { // 60% chance de intervenir
                     if (parrilla.usarCondimentos(nombre)) {
-                        if (parrilla.accederParrilla(nombre, 2000)) {
-                            try {
-                                condimentarCarne();
-                                parrilla.incrementarCondimentadas();
-                            } finally {
-                                parrilla.liberarParrilla(nombre);
-                            }
+                        PiezaCarne carne = buscarParaCondimentar();
+                        if (carne != null && condimentarCarne(carne)) {
+                            parrilla.incrementarCondimentadas();
                         }
                         parrilla.liberarCondimentos(nombre);
                     }
@@ -494,10 +296,10 @@ class AbuelaSupervisora implements Runnable {
                             "Esa carne está perfecta"
                     };
                     String comentario = comentarios[random.nextInt(comentarios.length)];
-                    parrilla.logEvento(nombre, "💬 '" + comentario + "'", "CYAN");
+                    parrilla.logEvento(nombre, TipoEvento.COMENTA_ABUELA, comentario);
                 }
 
-                Thread.sleep(5000 + random.nextInt(5000));
+                reloj.dormir(5000 + random.nextInt(5000));
 
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
@@ -505,59 +307,91 @@ class AbuelaSupervisora implements Runnable {
             }
         }
 
-        parrilla.logEvento(nombre, "👋 Abuela termina supervisión", "CYAN");
+        parrilla.logEvento(nombre, TipoEvento.TERMINA_ABUELA);
     }
 
-    private void condimentarCarne() {
-        for (PiezaCarne carne : parrilla.getCarnes().values()) {
-            if (!carne.isRobada() && !carne.isCondimentada() &&
-                    carne.getEstado() != EstadoCarne.CRUDA && carne.getEstado() != EstadoCarne.QUEMADA) {
-
-                carne.setCondimentada(true);
-                parrilla.logEvento(nombre, "🧂 Condimenta " + carne.getNombre(), "CYAN");
-
-                try {
-                    Thread.sleep(300);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
+    private static final EstadoCarne[] ESTADOS_CONDIMENTABLES = {
+            EstadoCarne.SELLANDO, EstadoCarne.PRIMERA_VUELTA, EstadoCarne.SEGUNDA_VUELTA, EstadoCarne.LISTA
+    };
+
+    // Solo condimenta una pieza por vez
+    private PiezaCarne buscarParaCondimentar() {
+        IndiceCarnes indice = parrilla.getIndice();
+        for (TipoCarne tipo : TipoCarne.values()) {
+            for (EstadoCarne estado : ESTADOS_CONDIMENTABLES) {
+                PiezaCarne carne = indice.buscarSinCondimentar(tipo, estado);
+                if (carne != null) {
+                    return carne;
                 }
-                break; // Solo condimenta una pieza por vez
             }
         }
+        return null;
+    }
+
+    private boolean condimentarCarne(PiezaCarne carne) {
+        // Atómico: si entre medio la robaron, se quemó u otra abuela la condimentó, no hace nada
+        if (!carne.tryCondimentar()) {
+            return false;
+        }
+
+        parrilla.logEvento(nombre, TipoEvento.CONDIMENTA_PIEZA, carne);
+        EventoCondimento evento = new EventoCondimento();
+        if (evento.shouldCommit()) {
+            evento.actor = nombre;
+            evento.pieza = carne.getNombre();
+            evento.commit();
+        }
+
+        try {
+            reloj.dormir(300);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return true;
     }
 }
 
 // Clase principal del simulador
 public class SimuladorAsadoFamiliar {
-    public static void main(String[] args) {
-        System.out.println("🔥🥩 === SIMULADOR DE PARRILLA EN ASADO FAMILIAR === 🥩🔥");
-        System.out.println("Presiona Ctrl+C para terminar el asado en cualquier momento\n");
-
-        // Crear la parrilla (recurso compartido)
-        Parrilla parrilla = new Parrilla();
-
-        // Crear lista de hilos
-        List<Thread> actores = new ArrayList<>();
+    // Nombres de la familia original; si se piden más actores se numeran
+    private static final String[] ASADORES = {"👨‍🍳 ASADOR PRINCIPAL"};
+    private static final String[] TIOS = {"👨‍🦳 TIO ALFONSO", "👨‍🦲 TIO ARIEL", "🧔 TIO RODRIGO"};
+    private static final String[] PRIMOS = {"😈 PRIMO MAXI", "🥷 PRIMO SEBASTIAN"};
+    private static final String[] ABUELAS = {"👵 ABUELA VIVI"};
 
-        // Crear asador principal
-        actores.add(new Thread(new AsadorPrincipal(parrilla, "👨‍🍳 ASADOR PRINCIPAL")));
+    public static void main(String[] args) {
+        ConfiguracionAsado config = ConfiguracionAsado.desdeArgumentos(args);
 
-        // Crear tíos expertos
-        actores.add(new Thread(new TioExperto(parrilla, "👨‍🦳 TIO ALFONSO")));
-        actores.add(new Thread(new TioExperto(parrilla, "👨‍🦲 TIO ARIEL")));
-        actores.add(new Thread(new TioExperto(parrilla, "🧔 TIO RODRIGO")));
+        System.out.println("🔥🥩 === SIMULADOR DE PARRILLA EN ASADO FAMILIAR === 🥩🔥");
+        System.out.println("Presiona Ctrl+C para terminar el asado en cualquier momento");
+        System.out.println("Semilla: " + config.getSemilla() + " (se repite con --semilla=" + config.getSemilla() + ")\n");
+
+        if (config.isCompararHilos()) {
+            // Mismo asado con hilos de plataforma y con hilos virtuales
+            ReporteHilos plataforma = correrAsado(config.conHilos(TipoHilos.PLATAFORMA));
+            ReporteHilos virtuales = correrAsado(config.conHilos(TipoHilos.VIRTUAL));
+            ReporteHilos.imprimirComparacion(plataforma, virtuales);
+        } else {
+            correrAsado(config).imprimir();
+        }
+        System.out.println("\n🎉 ¡Asado familiar completado! 🎉");
+    }
 
-        // Crear primos ladrones
-        actores.add(new Thread(new PrimoLadron(parrilla, "😈 PRIMO MAXI")));
-        actores.add(new Thread(new PrimoLadron(parrilla, "🥷 PRIMO SEBASTIAN")));
+    static ReporteHilos correrAsado(ConfiguracionAsado config) {
+        // Crear el quincho con sus parrillas (recursos compartidos)
+        Quincho quincho = new Quincho(config, config.crearReloj());
+        return correrAsado(config, quincho);
+    }
 
-        // Crear abuela supervisora
-        actores.add(new Thread(new AbuelaSupervisora(parrilla, "👵 ABUELA VIVI")));
+    static ReporteHilos correrAsado(ConfiguracionAsado config, Quincho quincho) {
+        ReporteHilos reporte = new ReporteHilos(config);
+        Reloj reloj = quincho.getReloj();
+        List<Thread> actores = crearActores(config, quincho);
 
         // Hook para terminar gracefully con Ctrl+C
-        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-            parrilla.logEvento("SISTEMA", "🛑 Terminando asado...", "RED");
-            parrilla.terminarAsado();
+        Thread hook = new Thread(() -> {
+            quincho.logEvento("SISTEMA", TipoEvento.TERMINANDO_ASADO);
+            quincho.terminarAsado();
 
             // Esperar que terminen los hilos
             for (Thread actor : actores) {
@@ -569,31 +403,135 @@ public class SimuladorAsadoFamiliar {
                 }
             }
 
-            parrilla.mostrarEstadisticas();
+            quincho.mostrarEstadisticas();
+            quincho.cerrarBitacora();
             System.out.println("\n🎉 ¡Gracias por participar del asado familiar! 🎉");
-        }));
+        });
+        Runtime.getRuntime().addShutdownHook(hook);
+
+        DiagnosticoPinning diagnostico = null;
+        if (config.isDiagnosticoPinning()) {
+            diagnostico = new DiagnosticoPinning();
+            diagnostico.iniciar();
+        }
+        List<ObjectName> mbeans = config.isJmx() ? MonitorParrilla.registrar(quincho) : List.of();
+        ServidorMetricas servidorMetricas = null;
+        if (config.getPuertoMetricas() >= 0) {
+            servidorMetricas = ServidorMetricas.iniciar(quincho, config.getPuertoMetricas());
+            System.out.println("Métricas para Prometheus en http://127.0.0.1:" + servidorMetricas.getPuerto() + "/metrics");
+        }
+
+        // En modo headless, una línea de progreso cada tanto en lugar de cada evento
+        Thread progreso = null;
+        if (config.isHeadless()) {
+            progreso = new Thread(reloj.participante(new ProgresoAsado(quincho, config.getProgresoSegundos())),
+                    "progreso-asado");
+            progreso.setDaemon(true);
+        }
 
         // Iniciar todos los hilos
+        reporte.marcarInicio();
         for (Thread actor : actores) {
             actor.start();
         }
+        if (progreso != null) {
+            progreso.start();
+        }
+        reporte.medirMemoria();
 
-        // Hilo principal controla duración del asado
         try {
-            Thread.sleep(60000); // 60 segundos de asado
-            parrilla.logEvento("SISTEMA", "⏰ Tiempo de asado terminado", "YELLOW");
-            parrilla.terminarAsado();
-
-            // Esperar que terminen todos los hilos
-            for (Thread actor : actores) {
-                actor.join();
-            }
-
+            esperarFin(config, quincho, actores);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
+        Runtime.getRuntime().removeShutdownHook(hook);
+
+        quincho.mostrarEstadisticas();
+        if (reloj instanceof RelojVirtual) {
+            RelojVirtual relojVirtual = (RelojVirtual) reloj;
+            long realMs = reporte.getMillisTranscurridos();
+            quincho.logEvento("SISTEMA", TipoEvento.RESUMEN_SIMULACION, "Simulados "
+                    + relojVirtual.getTiempoSimuladoMs() / 1000 + "s en " + realMs + " ms reales ("
+                    + relojVirtual.getEventosProcesados() + " eventos)");
+        }
+        quincho.cerrarBitacora();
+        MonitorParrilla.desregistrar(mbeans);
+        if (servidorMetricas != null) {
+            servidorMetricas.detener();
+        }
+        reporte.marcarFin(actores.size(), quincho.getEventosRegistrados());
+        if (diagnostico != null) {
+            diagnostico.detenerEImprimir();
+        }
+        return reporte;
+    }
 
-        parrilla.mostrarEstadisticas();
-        System.out.println("\n🎉 ¡Asado familiar completado! 🎉");
+    // Asado sin reporte, hook ni estadísticas impresas: lo usan las corridas en lote, que
+    // leen los resultados del quincho al terminar
+    static void simular(ConfiguracionAsado config, Quincho quincho) throws InterruptedException {
+        List<Thread> actores = crearActores(config, quincho);
+        for (Thread actor : actores) {
+            actor.start();
+        }
+        esperarFin(config, quincho, actores);
+        quincho.cerrarBitacora();
     }
-}
\ No newline at end of file
+
+    // Crear lista de hilos: asadores, tíos expertos, primos ladrones y abuelas, repartidos
+    // entre las parrillas del quincho
+    private static List<Thread> crearActores(ConfiguracionAsado config, Quincho quincho) {
+        Reloj reloj = quincho.getReloj();
+        List<Thread> actores = new ArrayList<>();
+        for (int i = 0; i < config.getAsadores(); i++) {
+            AsadorPrincipal asador = new AsadorPrincipal(quincho, quincho.getParrillaDe(i),
+                    nombreActor(ASADORES, "👨‍🍳 ASADOR", i), quincho.nuevoAzar(), config.getTimeoutAsadorMs());
+            actores.add(config.crearHilo(reloj.participante(asador)));
+        }
+        for (int i = 0; i < config.getTios(); i++) {
+            TioExperto tio = new TioExperto(quincho.getParrillaDe(i), nombreActor(TIOS, "🧔 TIO", i),
+                    quincho.nuevoAzar(), config.getTimeoutTioMs());
+            actores.add(config.crearHilo(reloj.participante(tio)));
+        }
+        for (int i = 0; i < config.getPrimos(); i++) {
+            PrimoLadron primo = new PrimoLadron(quincho.getParrillaDe(i), nombreActor(PRIMOS, "😈 PRIMO", i),
+                    quincho.nuevoAzar());
+            actores.add(config.crearHilo(reloj.participante(primo)));
+        }
+        for (int i = 0; i < config.getAbuelas(); i++) {
+            AbuelaSupervisora abuela = new AbuelaSupervisora(quincho.getParrillaDe(i),
+                    nombreActor(ABUELAS, "👵 ABUELA", i), quincho.nuevoAzar());
+            actores.add(config.crearHilo(reloj.participante(abuela)));
+        }
+        return actores;
+    }
+
+    // Deja correr el asado su duración y espera que terminen los actores
+    private static void esperarFin(ConfiguracionAsado config, Quincho quincho, List<Thread> actores)
+            throws InterruptedException {
+        Reloj reloj = quincho.getReloj();
+        long duracionMs = config.getDuracionSegundos() * 1000L;
+        if (reloj instanceof RelojVirtual) {
+            // Simulación de eventos discretos: el fin del asado es un evento más
+            RelojVirtual relojVirtual = (RelojVirtual) reloj;
+            relojVirtual.programar(duracionMs, () -> {
+                quincho.logEvento("SISTEMA", TipoEvento.TIEMPO_TERMINADO);
+                quincho.terminarAsado();
+            });
+            relojVirtual.correr();
+        } else {
+            // Hilo principal controla duración del asado
+            Thread.sleep(duracionMs);
+            quincho.logEvento("SISTEMA", TipoEvento.TIEMPO_TERMINADO);
+            quincho.terminarAsado();
+        }
+
+        // Esperar que terminen todos los hilos
+        for (Thread actor : actores) {
+            actor.join();
+        }
+    }
+
+    private static String nombreActor(String[] conocidos, String prefijo, int indice) {
+        return indice < conocidos.length ? conocidos[indice] : prefijo + " " + (indice + 1);
+    }
+}
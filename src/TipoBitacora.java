@@ -0,0 +1,2 @@
+// Cómo se escribe la bitácora de texto; NINGUNO la descarta (benchmarks, corridas largas)
+enum TipoBitacora { CONSOLA, ASINCRONO, NINGUNO }
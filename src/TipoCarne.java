@@ -0,0 +1,8 @@
+enum TipoCarne {
+    CHORIZO("🌭"), MORCILLA("🖤"), COSTILLA("🥩"),
+    VACIO("🥓"), POLLO("🐔");
+
+    private final String emoji;
+    TipoCarne(String emoji) { this.emoji = emoji; }
+    @Override public String toString() { return emoji; }
+}
@@ -0,0 +1,82 @@
+import java.nio.charset.StandardCharsets;
+
+// Catálogo de eventos del asado. Cada evento es prefijo + argumento + sufijo, donde el
+// argumento es el nombre de una pieza, un texto o un número según el caso. El texto fijo
+// se codifica a UTF-8 una sola vez; el ordinal es el código del evento.
+enum TipoEvento {
+    // Parrilla y recursos
+    CARBON_BAJO("⚠️ Nivel de carbón bajo: ", "%", ColorLog.AMARILLO),
+    ACCEDE_PARRILLA("🔥 Accede a ", "", ColorLog.AMARILLO),
+    TIMEOUT_PARRILLA("⏰ No pudo acceder a ", " (timeout)", ColorLog.ROJO),
+    LIBERA_PARRILLA("🔓 Libera ", "", ColorLog.VERDE),
+    TOMA_CERVEZA("🍺 Toma una cerveza", "", ColorLog.AZUL),
+    SIN_CERVEZA("😢 No hay más cerveza disponible", "", ColorLog.ROJO),
+    USA_PINZA("🥄 Usa la pinza buena", "", ColorLog.CIAN),
+    DEVUELVE_PINZA("🥄 Devuelve la pinza buena", "", ColorLog.CIAN),
+    USA_CONDIMENTOS("🧂 Usa condimentos", "", ColorLog.VERDE),
+
+    // Asador principal
+    INICIA_ASADOR("🎖️ Inicia como asador principal", "", ColorLog.VERDE),
+    EMPIEZA_SELLAR("🔥 Empieza a sellar ", "", ColorLog.NINGUNO),
+    PRIMERA_VUELTA("🔄 Da vuelta ", "", ColorLog.NINGUNO),
+    SEGUNDA_VUELTA("🔄 Segunda vuelta a ", "", ColorLog.NINGUNO),
+    CARNE_LISTA("✅ ", " está listo!", ColorLog.VERDE),
+    CARNE_QUEMADA("🔥💀 ", " se quemó!", ColorLog.ROJO),
+    TERMINA_ASADOR("✅ Termina su trabajo como asador", "", ColorLog.VERDE),
+
+    // Tíos expertos
+    LLEGA_TIO("🧔 Llega el tío experto", "", ColorLog.AZUL),
+    OPINA_TIO("🗣️ 'Esa carne necesita más fuego...'", "", ColorLog.AZUL),
+    CONSEJO_TIO("👨‍🍳 ", "", ColorLog.AZUL),
+    MUEVE_PIEZA("↪️ Pasa ", " a la zona menos caliente", ColorLog.AZUL),
+    SE_RETIRA_TIO("👋 Se retira el tío experto", "", ColorLog.AZUL),
+
+    // Primos ladrones
+    ACECHA_PRIMO("😈 Primo ladrón está al acecho", "", ColorLog.VIOLETA),
+    NADA_PARA_ROBAR("😔 No encuentra nada bueno para robar", "", ColorLog.VIOLETA),
+    ACTUA_INOCENTE("😇 Actúa inocentemente...", "", ColorLog.VIOLETA),
+    ROBA_PIEZA("🥷 ROBA ", " exitosamente!", ColorLog.VIOLETA),
+    ESCAPA_PRIMO("🏃‍♂️ Primo ladrón se escapa", "", ColorLog.VIOLETA),
+
+    // Abuela supervisora
+    INICIA_ABUELA("👵 Abuela inicia supervisión", "", ColorLog.CIAN),
+    COMENTA_ABUELA("💬 '", "'", ColorLog.CIAN),
+    CONDIMENTA_PIEZA("🧂 Condimenta ", "", ColorLog.CIAN),
+    TERMINA_ABUELA("👋 Abuela termina supervisión", "", ColorLog.CIAN),
+
+    // Sistema y estadísticas
+    TERMINANDO_ASADO("🛑 Terminando asado...", "", ColorLog.ROJO),
+    TIEMPO_TERMINADO("⏰ Tiempo de asado terminado", "", ColorLog.AMARILLO),
+    RESUMEN_SIMULACION("⏱️ ", "", ColorLog.VIOLETA),
+    RESUMEN_TITULO("=== RESUMEN DEL ASADO ===", "", ColorLog.VIOLETA),
+    ROBOS_EXITOSOS("Robos exitosos: ", "", ColorLog.NINGUNO),
+    INTERVENCIONES_TIOS("Intervenciones de tíos: ", "", ColorLog.NINGUNO),
+    CONDIMENTADAS_ABUELA("Condimentadas por abuela: ", "", ColorLog.NINGUNO),
+    CONFLICTOS("Conflictos: ", "", ColorLog.NINGUNO),
+    TOTAL_LISTAS("Carne lista: ", "", ColorLog.VERDE),
+    TOTAL_QUEMADAS("Carne quemada: ", "", ColorLog.ROJO),
+    ESTADISTICA("", "", ColorLog.NINGUNO);
+
+    private final String prefijo;
+    private final String sufijo;
+    private final ColorLog color;
+    private final byte[] prefijoUtf8;
+    private final byte[] sufijoUtf8;
+
+    TipoEvento(String prefijo, String sufijo, ColorLog color) {
+        this.prefijo = prefijo;
+        this.sufijo = sufijo;
+        this.color = color;
+        this.prefijoUtf8 = prefijo.getBytes(StandardCharsets.UTF_8);
+        this.sufijoUtf8 = sufijo.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public String getPrefijo() { return prefijo; }
+    public String getSufijo() { return sufijo; }
+    public ColorLog getColor() { return color; }
+    public byte[] getPrefijoUtf8() { return prefijoUtf8; }
+    public byte[] getSufijoUtf8() { return sufijoUtf8; }
+
+    // Los del grupo "Sistema y estadísticas": el modo headless los muestra siempre
+    public boolean esResumen() { return compareTo(TERMINANDO_ASADO) >= 0; }
+}
@@ -0,0 +1 @@
+enum TipoHilos { PLATAFORMA, VIRTUAL }
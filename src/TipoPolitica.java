@@ -0,0 +1,25 @@
+import java.util.SplittableRandom;
+
+// Las políticas de acceso que se pueden elegir con --politica
+enum TipoPolitica {
+    // ReentrantLock sin cola justa: gana quien reintenta en el momento justo
+    LIBRE,
+    // Por orden de llegada
+    FIFO,
+    // Primero el rol más importante (el asador), por orden de llegada dentro de cada rol
+    PRIORIDAD,
+    // Números como en la carnicería: se atiende en orden y el que se fue pierde el turno
+    TICKET,
+    // Sorteo entre los que esperan, con más boletos para los roles más importantes
+    LOTERIA;
+
+    public PoliticaAccesoParrilla crear(Reloj reloj, SplittableRandom azar) {
+        switch (this) {
+            case FIFO: return new AccesoPorLlegada(reloj);
+            case PRIORIDAD: return new AccesoPorPrioridad(reloj);
+            case TICKET: return new AccesoPorNumero(reloj);
+            case LOTERIA: return new AccesoPorSorteo(reloj, azar);
+            default: return new AccesoLibre(reloj);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+// Lo que ve quien mira la parrilla sin tocarla: carbón, temperatura y piezas por zona,
+// leídos juntos (ver Parrilla.mirar). La versión sube con cada escritura de estos datos.
+final class VistaParrilla {
+    private final int version;
+    private final int nivelCarbon;
+    private final int temperatura;
+    private final int[] piezasPorZona;
+
+    VistaParrilla(int version, int nivelCarbon, int temperatura, int[] piezasPorZona) {
+        this.version = version;
+        this.nivelCarbon = nivelCarbon;
+        this.temperatura = temperatura;
+        this.piezasPorZona = piezasPorZona;
+    }
+
+    public int getVersion() { return version; }
+    public int getNivelCarbon() { return nivelCarbon; }
+    public int getTemperatura() { return temperatura; }
+    public int getCantidadZonas() { return piezasPorZona.length; }
+    public int getPiezasEnZona(int zona) { return piezasPorZona[zona]; }
+    public int[] getPiezasPorZona() { return piezasPorZona.clone(); }
+}
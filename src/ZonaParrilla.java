@@ -0,0 +1,53 @@
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Zona de la parrilla (caliente o fría) con su propio lock
+class ZonaParrilla {
+    private final int indice;
+    private final boolean caliente;
+    private final PoliticaAccesoParrilla acceso;
+    private final Set<PiezaCarne> piezas = ConcurrentHashMap.newKeySet();
+    private final LongAdder accesos = new LongAdder();
+    private final LongAdder conflictos = new LongAdder();
+    private final String descripcion;
+    private final String descripcionConArticulo;
+    // Cuándo y quién tomó la zona, si es la primera del acceso en curso; solo los toca
+    // el hilo que tiene el lock
+    private long tomadaEnNanos;
+    private Rol rolTenedor;
+    // Para mirar desde afuera (JMX): quién la tiene y cuántos esperan. La cola del lock no
+    // sirve con reloj virtual, donde con la política libre los actores reintentan dormidos.
+    private volatile String tenedor;
+    private final AtomicInteger esperando = new AtomicInteger();
+
+    public ZonaParrilla(int indice, boolean caliente, String deParrilla, PoliticaAccesoParrilla acceso) {
+        this.indice = indice;
+        this.caliente = caliente;
+        this.acceso = acceso;
+        this.descripcion = "zona " + (indice + 1) + (caliente ? " (caliente)" : " (fría)") + deParrilla;
+        this.descripcionConArticulo = "la " + descripcion;
+    }
+
+    public int getIndice() { return indice; }
+    public boolean isCaliente() { return caliente; }
+    public PoliticaAccesoParrilla getAcceso() { return acceso; }
+    public String getDescripcionConArticulo() { return descripcionConArticulo; }
+    public Set<PiezaCarne> getPiezas() { return piezas; }
+    public long getAccesos() { return accesos.sum(); }
+    public long getConflictos() { return conflictos.sum(); }
+    void registrarAcceso() { accesos.increment(); }
+    void registrarConflicto() { conflictos.increment(); }
+    void marcarTomada(Rol rol, long nanos) { rolTenedor = rol; tomadaEnNanos = nanos; }
+    long getTomadaEnNanos() { return tomadaEnNanos; }
+    Rol getRolTenedor() { return rolTenedor; }
+    void setTenedor(String actor) { tenedor = actor; }
+    public String getTenedor() { return tenedor; }
+    public int getEsperando() { return esperando.get(); }
+    void empezarEspera() { esperando.incrementAndGet(); }
+    void terminarEspera() { esperando.decrementAndGet(); }
+
+    @Override
+    public String toString() { return descripcion; }
+}